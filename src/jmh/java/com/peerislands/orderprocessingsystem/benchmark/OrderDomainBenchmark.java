@@ -0,0 +1,72 @@
+package com.peerislands.orderprocessingsystem.benchmark;
+
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CPU cost of building orders: {@link Order#addItem} adds each line to a running {@code Money} total, so building an
+ * order should grow linearly with {@code itemCount}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private BigDecimal[] unitPrices;
+    private OrderStatus[] statuses;
+
+    @Setup
+    public void setUp() {
+        unitPrices = new BigDecimal[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            unitPrices[i] = new BigDecimal("%d.%02d".formatted(1 + i % 200, i % 100));
+        }
+        statuses = OrderStatus.values();
+    }
+
+    @Benchmark
+    public Order buildOrder() {
+        Order order = new Order("ORD-20250101-BENCH1", "Jane Doe", "jane.doe@example.com", "221B Baker Street, London");
+        for (int i = 0; i < itemCount; i++) {
+            order.addItem(new OrderItem("SKU-" + (i % 50), "Product", 1 + i % 5, unitPrices[i]));
+        }
+        return order;
+    }
+
+    @Benchmark
+    public void lineTotals(Blackhole blackhole) {
+        for (int i = 0; i < itemCount; i++) {
+            blackhole.consume(new OrderItem("SKU-1", "Product", 1 + i % 5, unitPrices[i]).getLineTotal());
+        }
+    }
+
+    @Benchmark
+    public void canTransitionTo(Blackhole blackhole) {
+        for (OrderStatus from : statuses) {
+            for (OrderStatus to : statuses) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
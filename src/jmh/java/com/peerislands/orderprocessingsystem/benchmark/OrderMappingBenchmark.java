@@ -0,0 +1,93 @@
+package com.peerislands.orderprocessingsystem.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.web.dto.CreateOrderRequest;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import com.peerislands.orderprocessingsystem.web.mapper.OrderMapper;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Per-request mapping work at the web edge: request to command, entity to response, and response to JSON bytes with
+ * an {@link ObjectMapper} configured like the application's ({@code write-dates-as-timestamps=false}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private final OrderMapper mapper = new OrderMapper();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    private CreateOrderRequest request;
+    private Order order;
+    private OrderResponse response;
+
+    @Setup
+    public void setUp() {
+        List<CreateOrderRequest.OrderItemRequest> items = new ArrayList<>(itemCount);
+        order = new Order("ORD-20250101-BENCH1", "Jane Doe", "jane.doe@example.com", "221B Baker Street, London");
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal unitPrice = new BigDecimal("%d.%02d".formatted(1 + i, i % 100));
+            items.add(new CreateOrderRequest.OrderItemRequest("SKU-" + i, "Product " + i, 1 + i % 5, unitPrice));
+            order.addItem(new OrderItem("SKU-" + i, "Product " + i, 1 + i % 5, unitPrice));
+        }
+        request = new CreateOrderRequest("Jane Doe", "jane.doe@example.com", "221B Baker Street, London", items);
+
+        OrderResponse mapped = mapper.toResponse(order);
+        Instant now = Instant.now();
+        response = new OrderResponse(
+            mapped.orderId(),
+            mapped.customerName(),
+            mapped.customerEmail(),
+            mapped.shippingAddress(),
+            mapped.status(),
+            mapped.totalAmount(),
+            now,
+            now,
+            mapped.items()
+        );
+    }
+
+    @Benchmark
+    public CreateOrderCommand toCommand() {
+        return mapper.toCommand(request);
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+        return mapper.toResponse(order);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
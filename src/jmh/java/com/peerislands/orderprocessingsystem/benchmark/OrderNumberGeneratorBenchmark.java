@@ -0,0 +1,43 @@
+package com.peerislands.orderprocessingsystem.benchmark;
+
+import com.peerislands.orderprocessingsystem.config.OrderNumberProperties;
+import com.peerislands.orderprocessingsystem.service.util.RandomOrderNumberGenerator;
+import com.peerislands.orderprocessingsystem.service.util.SequenceOrderNumberGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of both order number strategies. Runs with four threads because the generators are shared singletons
+ * and contention on {@code SecureRandom} or the sequence CAS is part of their cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class OrderNumberGeneratorBenchmark {
+
+    private final RandomOrderNumberGenerator random = new RandomOrderNumberGenerator();
+    private final SequenceOrderNumberGenerator sequence = new SequenceOrderNumberGenerator(new OrderNumberProperties("sequence", 1));
+
+    @Benchmark
+    public String random() {
+        return random.generate();
+    }
+
+    @Benchmark
+    public String sequence() {
+        return sequence.generate();
+    }
+}
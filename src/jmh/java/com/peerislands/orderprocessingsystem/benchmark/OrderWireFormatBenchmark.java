@@ -0,0 +1,101 @@
+package com.peerislands.orderprocessingsystem.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.web.dto.OrderItemResponse;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Encodes and decodes an order listing as JSON and as CBOR, each with mappers configured like the application's (see
+ * {@code CborConfiguration}). Divide the time by {@code orderCount} for the cost per order. The encoded size per order
+ * of each format is printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderWireFormatBenchmark {
+
+    private static final TypeReference<List<OrderResponse>> LIST_TYPE = new TypeReference<>() { };
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"1", "100", "1000"})
+    private int orderCount;
+
+    private ObjectMapper objectMapper;
+    private List<OrderResponse> orders;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = "cbor".equals(format)
+            ? Jackson2ObjectMapperBuilder.json()
+                .factory(CBORFactory.builder().enable(CBORGenerator.Feature.STRINGREF).build())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+            : Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Instant createdAt = Instant.parse("2025-01-01T09:30:00.123456Z");
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            List<OrderItemResponse> items = new ArrayList<>(3);
+            BigDecimal total = BigDecimal.ZERO;
+            for (int j = 0; j < 3; j++) {
+                BigDecimal unitPrice = new BigDecimal("%d.%02d".formatted(5 + j * 10, i % 100));
+                BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(1 + j));
+                items.add(new OrderItemResponse(i * 3L + j, "SKU-" + (j * 7), "Product " + (j * 7), 1 + j, unitPrice, lineTotal));
+                total = total.add(lineTotal);
+            }
+            orders.add(new OrderResponse(
+                "ORD-20250101-%06d".formatted(i),
+                "Customer " + (i % 50),
+                "customer%d@example.com".formatted(i % 50),
+                "%d Market Street, Springfield".formatted(i % 50),
+                OrderStatus.PENDING,
+                total,
+                createdAt.plusMillis(i),
+                createdAt.plusMillis(i),
+                items
+            ));
+        }
+        encoded = objectMapper.writeValueAsBytes(orders);
+        System.out.printf("%n%s: %d bytes per order%n", format, encoded.length / orderCount);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public List<OrderResponse> decode() throws Exception {
+        return objectMapper.readValue(encoded, LIST_TYPE);
+    }
+}
@@ -2,12 +2,14 @@ package com.peerislands.orderprocessingsystem;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
 @EnableJpaAuditing
+@ConfigurationPropertiesScan
 public class OrderProcessingSystemApplication {
 
 	public static void main(String[] args) {
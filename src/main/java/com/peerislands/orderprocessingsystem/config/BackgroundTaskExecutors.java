@@ -0,0 +1,73 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the executors and threads used by background components, following the same threading mode as the rest of
+ * the application: virtual threads when {@code spring.threads.virtual.enabled=true} on Java 21+, bounded platform
+ * thread pools otherwise.
+ * <p>
+ * Executors are created here instead of being exposed as {@code Executor} beans so that Boot's auto-configured
+ * {@code applicationTaskExecutor}, which backs MVC async and streaming responses, does not back off.
+ */
+@Component
+public class BackgroundTaskExecutors implements DisposableBean {
+
+    private final boolean virtualThreads;
+    private final List<ThreadPoolTaskExecutor> pools = new CopyOnWriteArrayList<>();
+
+    public BackgroundTaskExecutors(Environment environment) {
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Returns an executor that runs at most {@code concurrency} tasks at a time.
+     */
+    public AsyncTaskExecutor create(String threadNamePrefix, int concurrency) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency);
+            return executor;
+        }
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(concurrency);
+        pool.setMaxPoolSize(concurrency);
+        pool.setThreadNamePrefix(threadNamePrefix);
+        pool.initialize();
+        pools.add(pool);
+        return pool;
+    }
+
+    /**
+     * Returns a factory for long-running daemon threads such as queue consumers.
+     */
+    public ThreadFactory threadFactory(String threadNamePrefix) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory();
+        }
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(threadNamePrefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+}
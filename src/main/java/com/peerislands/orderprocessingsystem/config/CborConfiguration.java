@@ -0,0 +1,32 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Lets clients exchange orders as CBOR ({@code application/cbor}) instead of JSON. The converter is built from the
+ * application's Jackson settings. JSON stays the default, because Spring Boot registers this converter after the JSON
+ * one.
+ * <p>
+ * CBOR output differs from JSON in two ways, both to save bytes. Repeated strings such as product names, statuses and
+ * property names are written once and referenced afterwards (the CBOR stringref extension). Timestamps are written as
+ * numeric epoch seconds rather than ISO-8601 text.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CborConfiguration {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        CBORFactory factory = CBORFactory.builder().enable(CBORGenerator.Feature.STRINGREF).build();
+        return new MappingJackson2CborHttpMessageConverter(
+            builder.factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link ConcurrencyLimitingDataSource} when
+ * {@code database.concurrency.enabled=true}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "database.concurrency", name = "enabled", havingValue = "true")
+public class DatabaseConcurrencyConfiguration {
+
+    // Static and bound straight from the environment: bean post-processors are created before
+    // @ConfigurationProperties beans are available.
+    @Bean
+    static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        DatabaseConcurrencyProperties properties = Binder.get(environment)
+            .bindOrCreate("database.concurrency", DatabaseConcurrencyProperties.class);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, properties.maxConcurrent(), properties.acquireTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
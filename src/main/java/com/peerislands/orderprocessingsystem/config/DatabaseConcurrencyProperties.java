@@ -0,0 +1,22 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Caps how many threads may hold a JDBC connection at once. With virtual threads the servlet container no longer
+ * bounds request concurrency, so this limit is what keeps thousands of requests from queuing on the connection pool
+ * and failing there with an opaque timeout.
+ *
+ * @param enabled        whether the limit is applied
+ * @param maxConcurrent  number of connections that may be checked out concurrently; keep at or below the pool size
+ * @param acquireTimeout how long a caller waits for a permit before the request is rejected
+ */
+@ConfigurationProperties(prefix = "database.concurrency")
+public record DatabaseConcurrencyProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10") int maxConcurrent,
+    @DefaultValue("5s") Duration acquireTimeout
+) {
+}
@@ -0,0 +1,17 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the availability snapshot behind {@code GET /api/v1/inventory/availability}.
+ *
+ * @param refreshIntervalMs how often products changed by committed transactions are re-read into the snapshot
+ * @param reloadIntervalMs  how often the whole snapshot is rebuilt, picking up changes made outside this node
+ */
+@ConfigurationProperties(prefix = "inventory.availability")
+public record InventoryAvailabilityProperties(
+    @DefaultValue("200") long refreshIntervalMs,
+    @DefaultValue("30000") long reloadIntervalMs
+) {
+}
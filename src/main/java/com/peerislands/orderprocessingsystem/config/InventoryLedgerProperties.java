@@ -0,0 +1,17 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the in-memory reservation ledger ({@code inventory.reservation.mode=ledger}).
+ *
+ * @param flushIntervalMs delay between write-behind flushes of committed deltas to {@code inventory_items}
+ * @param flushBatchSize  maximum number of product rows written per JDBC batch
+ */
+@ConfigurationProperties(prefix = "inventory.ledger")
+public record InventoryLedgerProperties(
+    @DefaultValue("200") long flushIntervalMs,
+    @DefaultValue("100") int flushBatchSize
+) {
+}
@@ -0,0 +1,15 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for {@code POST /api/v1/orders:batch}.
+ *
+ * @param maxSize maximum number of orders accepted in one request
+ */
+@ConfigurationProperties(prefix = "orders.batch")
+public record OrderBatchProperties(
+    @DefaultValue("1000") int maxSize
+) {
+}
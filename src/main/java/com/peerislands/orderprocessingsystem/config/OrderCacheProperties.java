@@ -0,0 +1,20 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the read-through cache behind {@code GET /api/v1/orders/{orderId}}.
+ *
+ * @param maximumSize maximum number of cached orders
+ * @param activeTtl   time-to-live for orders that can still change status
+ * @param terminalTtl time-to-live for orders in a terminal status, which no longer change
+ */
+@ConfigurationProperties(prefix = "orders.cache")
+public record OrderCacheProperties(
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("30s") Duration activeTtl,
+    @DefaultValue("1h") Duration terminalTtl
+) {
+}
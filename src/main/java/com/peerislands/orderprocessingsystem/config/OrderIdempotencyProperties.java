@@ -0,0 +1,22 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for {@code Idempotency-Key} handling on {@code POST /api/v1/orders}.
+ *
+ * @param maximumSize maximum number of completed requests kept in memory for replay
+ * @param cacheTtl    how long a completed request stays in memory; older keys are replayed from the database
+ * @param retention   how long keys are kept in the database; a key reused after that creates a new order
+ * @param purgeCron   schedule of the job deleting keys older than {@code retention}
+ */
+@ConfigurationProperties(prefix = "orders.idempotency")
+public record OrderIdempotencyProperties(
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("10m") Duration cacheTtl,
+    @DefaultValue("24h") Duration retention,
+    @DefaultValue("0 45 * * * *") String purgeCron
+) {
+}
@@ -0,0 +1,25 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the group-commit intake behind {@code POST /api/v1/orders}.
+ *
+ * @param enabled       whether orders without an {@code Idempotency-Key} are queued and committed in micro-batches
+ *                      instead of one transaction per request
+ * @param queueCapacity orders that may wait for a writer; further requests are refused with {@code 429}
+ * @param batchSize     maximum orders committed in one transaction
+ * @param maxWait       how long a writer holding a partial batch waits for more orders before committing it
+ * @param writers       number of writer threads, each committing one batch at a time
+ */
+@ConfigurationProperties(prefix = "orders.intake")
+public record OrderIntakeProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("200") int batchSize,
+    @DefaultValue("2ms") Duration maxWait,
+    @DefaultValue("2") int writers
+) {
+}
@@ -0,0 +1,25 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import com.peerislands.orderprocessingsystem.service.journal.OrderJournal;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opens the {@link OrderJournal} when {@code orders.journal.enabled=true}, recovering it from disk.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "orders.journal", name = "enabled", havingValue = "true")
+public class OrderJournalConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public OrderJournal orderJournal(OrderJournalProperties properties, OrderMetrics orderMetrics) throws IOException {
+        long segmentSize = properties.segmentSize().toBytes();
+        if (segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("orders.journal.segment-size must be below 2GB");
+        }
+        return new OrderJournal(properties.directory(), (int) segmentSize, orderMetrics.journalForce());
+    }
+}
@@ -0,0 +1,29 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the order journal that acknowledges {@code POST /api/v1/orders} before the database commit.
+ *
+ * @param enabled          whether orders are journaled and applied to the database in the background; requires
+ *                         {@code inventory.reservation.mode=ledger} and {@code orders.number.strategy=sequence}
+ * @param directory        where journal segments and the applied checkpoint are kept; must be on a local disk
+ * @param segmentSize      size of each memory-mapped segment file
+ * @param applyBatchSize   maximum journaled orders inserted per database transaction
+ * @param applyIntervalMs  how long the applier waits before looking again once it has caught up
+ * @param lookupWaitMs     how long a read, status change or cancellation of an order that is not in the database yet
+ *                         waits for the journal to be applied before answering {@code 404}
+ */
+@ConfigurationProperties(prefix = "orders.journal")
+public record OrderJournalProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("data/order-journal") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("500") int applyBatchSize,
+    @DefaultValue("20") long applyIntervalMs,
+    @DefaultValue("2000") long lookupWaitMs
+) {
+}
@@ -0,0 +1,17 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning knobs for the order listing endpoints.
+ *
+ * @param batchSize    number of orders fetched per keyset batch while streaming a listing
+ * @param maxPageSize  upper bound accepted for the {@code limit} parameter of paged listings
+ */
+@ConfigurationProperties(prefix = "orders.listing")
+public record OrderListingProperties(
+    @DefaultValue("200") int batchSize,
+    @DefaultValue("1000") int maxPageSize
+) {
+}
@@ -0,0 +1,18 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Order number generation settings.
+ *
+ * @param strategy {@code random} (default) or {@code sequence}
+ * @param nodeId   identifier of this instance, {@code 0..15}; must be distinct per running instance when the
+ *                 {@code sequence} strategy is used
+ */
+@ConfigurationProperties(prefix = "orders.number")
+public record OrderNumberProperties(
+    @DefaultValue("random") String strategy,
+    @DefaultValue("0") int nodeId
+) {
+}
@@ -0,0 +1,30 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the order change outbox and its relay.
+ *
+ * @param relayIntervalMs delay between relay runs, in milliseconds
+ * @param batchSize       maximum number of events claimed and delivered per relay transaction
+ * @param sink            where the relay delivers events: {@code in-process}, {@code file} or {@code http}
+ * @param filePath        NDJSON file appended to by the {@code file} sink
+ * @param httpUrl         endpoint the {@code http} sink posts each batch to
+ * @param httpTimeout     request timeout for the {@code http} sink
+ * @param retention       how long published events stay available to {@code GET /api/v1/orders/changes}
+ */
+@ConfigurationProperties(prefix = "orders.outbox")
+public record OrderOutboxProperties(
+    @DefaultValue("500") long relayIntervalMs,
+    @DefaultValue("200") int batchSize,
+    @DefaultValue("in-process") String sink,
+    @DefaultValue("order-changes.ndjson") Path filePath,
+    @DefaultValue("http://localhost:8080/internal/tools/orders/change-receiver") URI httpUrl,
+    @DefaultValue("5s") Duration httpTimeout,
+    @DefaultValue("7d") Duration retention
+) {
+}
@@ -0,0 +1,24 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for promoting pending orders to {@code PROCESSING}.
+ *
+ * @param chunkSize     maximum number of orders promoted per transaction
+ * @param workers       number of partitions (and worker threads) the pending backlog is split into, by order id
+ * @param holdPeriod    how long a new order stays {@code PENDING} before it is promoted
+ * @param eventDriven   whether orders are queued for promotion as they are created; when disabled only the sweep runs
+ * @param queueCapacity maximum number of orders waiting in the in-process promotion queue
+ */
+@ConfigurationProperties(prefix = "orders.promotion")
+public record OrderPromotionProperties(
+    @DefaultValue("500") int chunkSize,
+    @DefaultValue("2") int workers,
+    @DefaultValue("5m") Duration holdPeriod,
+    @DefaultValue("true") boolean eventDriven,
+    @DefaultValue("100000") int queueCapacity
+) {
+}
@@ -0,0 +1,26 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for expiring the stock reservations of orders left pending.
+ *
+ * @param enabled         whether new orders get a reservation deadline; off by default, since expiry cancels orders
+ *                        left pending. Orders created while disabled never expire
+ * @param ttl             how long a pending order holds its reservations; should exceed
+ *                        {@code orders.promotion.hold-period}, or orders expire before they can be promoted
+ * @param batchSize       maximum number of orders expired per transaction
+ * @param queueCapacity   maximum number of deadlines tracked in memory; the rest are found by the sweep
+ * @param sweepIntervalMs delay between sweeps of the {@code reserved_until} index, in milliseconds
+ */
+@ConfigurationProperties(prefix = "orders.reservation")
+public record OrderReservationProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1h") Duration ttl,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("100000") int queueCapacity,
+    @DefaultValue("60000") long sweepIntervalMs
+) {
+}
@@ -0,0 +1,19 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the in-memory order statistics behind {@code GET /api/v1/orders/stats}.
+ *
+ * @param days              number of most recent days (UTC) with per-day totals
+ * @param topProducts       number of products listed by ordered quantity
+ * @param refreshIntervalMs how often the served snapshot is rebuilt from the live counters
+ */
+@ConfigurationProperties(prefix = "orders.stats")
+public record OrderStatsProperties(
+    @DefaultValue("30") int days,
+    @DefaultValue("10") int topProducts,
+    @DefaultValue("1000") long refreshIntervalMs
+) {
+}
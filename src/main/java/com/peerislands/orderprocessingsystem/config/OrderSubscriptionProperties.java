@@ -0,0 +1,24 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for order status subscriptions ({@code GET /api/v1/orders/{orderId}/status-stream}).
+ *
+ * @param maxSubscribers      maximum number of open subscriptions on this node
+ * @param bufferSize          undelivered events kept per subscriber before it is told to resync and disconnected
+ * @param timeout             how long a subscription stays open before the client must reconnect
+ * @param heartbeatIntervalMs interval between keep-alive comments, which also detect disconnected clients
+ * @param deliveryThreads     number of threads writing events to subscribers
+ */
+@ConfigurationProperties(prefix = "orders.subscriptions")
+public record OrderSubscriptionProperties(
+    @DefaultValue("10000") int maxSubscribers,
+    @DefaultValue("16") int bufferSize,
+    @DefaultValue("5m") Duration timeout,
+    @DefaultValue("30000") long heartbeatIntervalMs,
+    @DefaultValue("4") int deliveryThreads
+) {
+}
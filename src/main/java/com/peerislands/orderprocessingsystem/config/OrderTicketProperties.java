@@ -0,0 +1,29 @@
+package com.peerislands.orderprocessingsystem.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for asynchronous order acceptance ({@code Prefer: respond-async} on {@code POST /api/v1/orders}).
+ *
+ * @param workers         threads creating orders from queued tickets, independent of the web thread pool
+ * @param queueCapacity   ticket ids held in memory for the workers; tickets beyond it wait for the next sweep
+ * @param sweepIntervalMs how often tickets still queued in the table, e.g. after a restart, are handed to the workers
+ * @param sweepBatchSize  maximum tickets handed over per sweep
+ * @param maxAttempts     processing attempts failing for reasons other than a rejection before a ticket is marked
+ *                        {@code FAILED}
+ * @param retention       how long created and rejected tickets stay available for polling
+ * @param purgeCron       when decided tickets older than {@code retention} are deleted
+ */
+@ConfigurationProperties(prefix = "orders.tickets")
+public record OrderTicketProperties(
+    @DefaultValue("4") int workers,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("30000") long sweepIntervalMs,
+    @DefaultValue("500") int sweepBatchSize,
+    @DefaultValue("5") int maxAttempts,
+    @DefaultValue("24h") Duration retention,
+    @DefaultValue("0 30 * * * *") String purgeCron
+) {
+}
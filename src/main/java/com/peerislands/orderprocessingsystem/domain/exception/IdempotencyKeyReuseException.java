@@ -0,0 +1,8 @@
+package com.peerislands.orderprocessingsystem.domain.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String key) {
+        super("Idempotency key %s was already used for a different request".formatted(key));
+    }
+}
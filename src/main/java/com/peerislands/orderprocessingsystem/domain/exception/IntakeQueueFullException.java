@@ -0,0 +1,8 @@
+package com.peerislands.orderprocessingsystem.domain.exception;
+
+public class IntakeQueueFullException extends RuntimeException {
+
+    public IntakeQueueFullException(int capacity) {
+        super("Order intake queue is full (capacity %d), retry later".formatted(capacity));
+    }
+}
@@ -0,0 +1,8 @@
+package com.peerislands.orderprocessingsystem.domain.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor '%s'".formatted(cursor));
+    }
+}
@@ -0,0 +1,11 @@
+package com.peerislands.orderprocessingsystem.domain.exception;
+
+/**
+ * Raised for an order that was refused inside a batched create, e.g. for lack of stock; carries the batch's reason.
+ */
+public class OrderRejectedException extends RuntimeException {
+
+    public OrderRejectedException(String reason) {
+        super(reason);
+    }
+}
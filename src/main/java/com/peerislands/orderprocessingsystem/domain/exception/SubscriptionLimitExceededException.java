@@ -0,0 +1,8 @@
+package com.peerislands.orderprocessingsystem.domain.exception;
+
+public class SubscriptionLimitExceededException extends RuntimeException {
+
+    public SubscriptionLimitExceededException(int limit) {
+        super("Too many open order subscriptions (limit %d), retry later".formatted(limit));
+    }
+}
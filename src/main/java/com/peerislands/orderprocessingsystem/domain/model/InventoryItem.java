@@ -92,5 +92,9 @@ public class InventoryItem {
     public int getReservedQuantity() {
         return reservedQuantity;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
 
@@ -0,0 +1,118 @@
+package com.peerislands.orderprocessingsystem.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * An amount in minor units (hundredths), held as a {@code long}. Order totals are kept in this form so that adding a
+ * line is one overflow-checked addition instead of re-summing {@link BigDecimal}s. Amounts become {@link BigDecimal}
+ * with scale 2 only at the API and persistence edge ({@link #toBigDecimal()}, {@link MoneyConverter}), with the same
+ * values the {@code BigDecimal} arithmetic rounded to scale 2 {@link RoundingMode#HALF_UP} would give.
+ * <p>
+ * Arithmetic throws {@link ArithmeticException} rather than wrap when a result does not fit in a {@code long}.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    // Powers of ten that fit in a long, for rescaling unit prices without BigDecimal arithmetic.
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Converts an amount with at most two decimals.
+     *
+     * @throws ArithmeticException if the amount has more than two significant decimals or does not fit in a long
+     */
+    public static Money of(BigDecimal amount) {
+        Objects.requireNonNull(amount, "amount");
+        return ofMinorUnits(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    /**
+     * {@code unitPrice * quantity} rounded to two decimals half up, as
+     * {@code unitPrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP)} computes it.
+     *
+     * @throws ArithmeticException if the line total does not fit in a long
+     */
+    public static Money lineTotal(BigDecimal unitPrice, int quantity) {
+        Objects.requireNonNull(unitPrice, "unitPrice");
+        int scale = unitPrice.scale();
+        if (unitPrice.precision() < POWERS_OF_TEN.length && scale >= SCALE - POWERS_OF_TEN.length + 1
+            && scale < SCALE + POWERS_OF_TEN.length) {
+            try {
+                long product = Math.multiplyExact(unitPrice.unscaledValue().longValueExact(), (long) quantity);
+                return ofMinorUnits(scale <= SCALE
+                    ? Math.multiplyExact(product, POWERS_OF_TEN[SCALE - scale])
+                    : divideHalfUp(product, POWERS_OF_TEN[scale - SCALE]));
+            } catch (ArithmeticException ex) {
+                // The intermediate product overflowed; the exact path below decides whether the result fits.
+            }
+        }
+        return of(unitPrice.multiply(BigDecimal.valueOf(quantity)).setScale(SCALE, RoundingMode.HALF_UP));
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        // |remainder| < divisor <= 10^18, so doubling it cannot overflow.
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    public Money plus(Money other) {
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinorUnits(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof Money money && minorUnits == money.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -3,6 +3,7 @@ package com.peerislands.orderprocessingsystem.domain.model;
 import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
@@ -10,10 +11,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -24,12 +26,20 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    indexes = {
+        @Index(name = "idx_orders_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_orders_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_orders_reserved_until", columnList = "reserved_until, id")
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+    @SequenceGenerator(name = "order_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "order_number", nullable = false, unique = true, length = 40)
@@ -48,8 +58,9 @@ public class Order {
     @Column(nullable = false, length = 20)
     private OrderStatus status = OrderStatus.PENDING;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "total_amount", nullable = false, precision = 15, scale = 2)
-    private BigDecimal totalAmount = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+    private Money totalAmount = Money.ZERO;
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -59,6 +70,12 @@ public class Order {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    /**
+     * When the stock reserved for this order expires if it is still pending; cleared once it leaves {@code PENDING}.
+     */
+    @Column(name = "reserved_until")
+    private Instant reservedUntil;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<OrderItem> items = new ArrayList<>();
 
@@ -73,11 +90,19 @@ public class Order {
         this.shippingAddress = Objects.requireNonNull(shippingAddress, "shippingAddress");
     }
 
+    public void holdReservationUntil(Instant reservedUntil) {
+        if (status != OrderStatus.PENDING) {
+            throw new InvalidOrderStateException("Only pending orders hold reservations");
+        }
+        this.reservedUntil = reservedUntil;
+    }
+
     public void addItem(OrderItem item) {
         Objects.requireNonNull(item, "item");
+        // A running total: each line is added once, and an overflowing total leaves the order unchanged.
+        totalAmount = totalAmount.plus(item.lineTotal());
         item.assignOrder(this);
         items.add(item);
-        recalculateTotal();
     }
 
     public void updateStatus(OrderStatus targetStatus) {
@@ -93,6 +118,7 @@ public class Order {
             );
         }
         this.status = targetStatus;
+        this.reservedUntil = null;
     }
 
     public void cancel() {
@@ -100,23 +126,18 @@ public class Order {
             throw new InvalidOrderStateException("Only pending orders can be cancelled");
         }
         this.status = OrderStatus.CANCELLED;
+        this.reservedUntil = null;
     }
 
     public boolean markProcessing() {
         if (this.status == OrderStatus.PENDING) {
             this.status = OrderStatus.PROCESSING;
+            this.reservedUntil = null;
             return true;
         }
         return false;
     }
 
-    private void recalculateTotal() {
-        this.totalAmount = items.stream()
-            .map(OrderItem::getLineTotal)
-            .reduce(BigDecimal.ZERO, BigDecimal::add)
-            .setScale(2, RoundingMode.HALF_UP);
-    }
-
     public Long getId() {
         return id;
     }
@@ -142,7 +163,7 @@ public class Order {
     }
 
     public BigDecimal getTotalAmount() {
-        return totalAmount;
+        return totalAmount.toBigDecimal();
     }
 
     public Instant getCreatedAt() {
@@ -153,6 +174,10 @@ public class Order {
         return updatedAt;
     }
 
+    public Instant getReservedUntil() {
+        return reservedUntil;
+    }
+
     public List<OrderItem> getItems() {
         return Collections.unmodifiableList(items);
     }
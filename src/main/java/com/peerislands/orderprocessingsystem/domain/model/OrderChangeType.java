@@ -0,0 +1,9 @@
+package com.peerislands.orderprocessingsystem.domain.model;
+
+/**
+ * Kinds of order lifecycle change recorded in the outbox.
+ */
+public enum OrderChangeType {
+    CREATED,
+    STATUS_CHANGED
+}
@@ -0,0 +1,82 @@
+package com.peerislands.orderprocessingsystem.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * Client-supplied {@code Idempotency-Key} of an order creation request, with a hash of the request it was first used
+ * for, the order it produced and the response it was answered with. The unique key column is what makes a retried
+ * request a replay rather than a second order, across restarts and application instances.
+ */
+@Entity
+@Table(
+    name = "order_idempotency_keys",
+    indexes = @Index(name = "idx_order_idempotency_keys_created_at", columnList = "created_at")
+)
+public class OrderIdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "order_number", nullable = false, length = 40)
+    private String orderNumber;
+
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected OrderIdempotencyKey() {
+        // JPA
+    }
+
+    public OrderIdempotencyKey(String idempotencyKey, String requestHash, String orderNumber, Instant createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.orderNumber = orderNumber;
+        this.createdAt = createdAt;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    /**
+     * @return the response recorded for the first request; only {@code null} inside the transaction that claims the key
+     */
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public void recordResponse(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,24 +1,33 @@
 package com.peerislands.orderprocessingsystem.domain.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Objects;
 
 @Entity
-@Table(name = "order_items")
+@Table(
+    name = "order_items",
+    indexes = {
+        @Index(name = "idx_order_items_order_id", columnList = "order_id"),
+        @Index(name = "idx_order_items_product_code", columnList = "product_code, quantity")
+    }
+)
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -37,8 +46,9 @@ public class OrderItem {
     @Column(name = "unit_price", nullable = false, precision = 15, scale = 2)
     private BigDecimal unitPrice;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "line_total", nullable = false, precision = 15, scale = 2)
-    private BigDecimal lineTotal;
+    private Money lineTotal;
 
     protected OrderItem() {
         // JPA requirement
@@ -49,13 +59,8 @@ public class OrderItem {
         this.productName = productName;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
-        this.lineTotal = calculateLineTotal(quantity, unitPrice);
-    }
-
-    private static BigDecimal calculateLineTotal(Integer quantity, BigDecimal unitPrice) {
         Objects.requireNonNull(quantity, "quantity");
-        Objects.requireNonNull(unitPrice, "unitPrice");
-        return unitPrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP);
+        this.lineTotal = Money.lineTotal(Objects.requireNonNull(unitPrice, "unitPrice"), quantity);
     }
 
     public void assignOrder(Order order) {
@@ -87,6 +92,10 @@ public class OrderItem {
     }
 
     public BigDecimal getLineTotal() {
+        return lineTotal.toBigDecimal();
+    }
+
+    Money lineTotal() {
         return lineTotal;
     }
 
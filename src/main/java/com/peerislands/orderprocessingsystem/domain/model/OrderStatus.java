@@ -38,6 +38,15 @@ public enum OrderStatus {
         };
     }
 
+    /**
+     * Every allowed transition moves to a status declared further down, so declaration order is lifecycle order.
+     *
+     * @return {@code true} when an order in {@code other} can have reached this status
+     */
+    public boolean isAfter(OrderStatus other) {
+        return compareTo(other) > 0;
+    }
+
     public boolean isTerminal() {
         return TERMINAL_STATUSES.contains(this);
     }
@@ -0,0 +1,145 @@
+package com.peerislands.orderprocessingsystem.domain.model;
+
+import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An order creation request accepted with {@code 202 Accepted} and staged until a worker processes it. The request is
+ * kept as JSON; once decided, the ticket records either the created order's number or the rejection reason. A ticket
+ * whose processing keeps failing for other reasons is given up as {@code FAILED} with the last error.
+ */
+@Entity
+@Table(
+    name = "order_tickets",
+    indexes = @Index(name = "idx_order_tickets_status_updated_at", columnList = "status, updated_at, id")
+)
+public class OrderTicket {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ticket_id", nullable = false, unique = true, length = 36)
+    private String ticketId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderTicketStatus status = OrderTicketStatus.QUEUED;
+
+    @Lob
+    @Column(name = "request_payload", nullable = false)
+    private String requestPayload;
+
+    @Column(name = "order_number", length = 40)
+    private String orderNumber;
+
+    @Column(name = "rejection_reason", length = MAX_REASON_LENGTH)
+    private String rejectionReason;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected OrderTicket() {
+        // JPA
+    }
+
+    public OrderTicket(String ticketId, String requestPayload, Instant createdAt) {
+        this.ticketId = Objects.requireNonNull(ticketId, "ticketId");
+        this.requestPayload = Objects.requireNonNull(requestPayload, "requestPayload");
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    public void markCreated(String orderNumber, Instant now) {
+        ensureQueued();
+        this.status = OrderTicketStatus.CREATED;
+        this.orderNumber = Objects.requireNonNull(orderNumber, "orderNumber");
+        this.updatedAt = now;
+    }
+
+    public void markRejected(String reason, Instant now) {
+        ensureQueued();
+        this.status = OrderTicketStatus.REJECTED;
+        this.rejectionReason = truncate(reason);
+        this.updatedAt = now;
+    }
+
+    /**
+     * Counts a processing attempt that failed for a reason other than a rejection. The ticket stays queued for the
+     * next sweep until it has failed {@code maxAttempts} times, and is then marked {@code FAILED}.
+     */
+    public void recordFailedAttempt(String reason, int maxAttempts, Instant now) {
+        ensureQueued();
+        this.attempts++;
+        this.updatedAt = now;
+        if (attempts >= maxAttempts) {
+            this.status = OrderTicketStatus.FAILED;
+            this.rejectionReason = truncate(reason);
+        }
+    }
+
+    private static String truncate(String reason) {
+        return reason == null || reason.length() <= MAX_REASON_LENGTH ? reason : reason.substring(0, MAX_REASON_LENGTH);
+    }
+
+    private void ensureQueued() {
+        if (status != OrderTicketStatus.QUEUED) {
+            throw new InvalidOrderStateException("Ticket %s has already been processed".formatted(ticketId));
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    public OrderTicketStatus getStatus() {
+        return status;
+    }
+
+    public String getRequestPayload() {
+        return requestPayload;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,8 @@
+package com.peerislands.orderprocessingsystem.domain.model;
+
+public enum OrderTicketStatus {
+    QUEUED,
+    CREATED,
+    REJECTED,
+    FAILED
+}
@@ -0,0 +1,122 @@
+package com.peerislands.orderprocessingsystem.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * One order lifecycle change, written in the same transaction as the change itself. {@code sequence} stays empty
+ * until the relay publishes the event; relay-assigned sequences follow commit order, which ids do not.
+ */
+@Entity
+@Table(
+    name = "order_outbox",
+    indexes = {
+        @Index(name = "idx_order_outbox_sequence", columnList = "sequence_number", unique = true),
+        @Index(name = "idx_order_outbox_published_at", columnList = "published_at")
+    }
+)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq")
+    @SequenceGenerator(name = "order_outbox_seq", sequenceName = "order_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "sequence_number")
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private OrderChangeType type;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "order_number", nullable = false, length = 40)
+    private String orderNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", length = 20)
+    private OrderStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    protected OutboxEvent() {
+        // JPA requirement
+    }
+
+    public OutboxEvent(
+        OrderChangeType type,
+        Long orderId,
+        String orderNumber,
+        OrderStatus previousStatus,
+        OrderStatus status,
+        Instant occurredAt
+    ) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.orderId = Objects.requireNonNull(orderId, "orderId");
+        this.orderNumber = Objects.requireNonNull(orderNumber, "orderNumber");
+        this.previousStatus = previousStatus;
+        this.status = Objects.requireNonNull(status, "status");
+        this.occurredAt = Objects.requireNonNull(occurredAt, "occurredAt");
+    }
+
+    public void markPublished(long sequence, Instant publishedAt) {
+        this.sequence = sequence;
+        this.publishedAt = publishedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public OrderChangeType getType() {
+        return type;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+}
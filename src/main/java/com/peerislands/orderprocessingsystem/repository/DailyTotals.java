@@ -0,0 +1,16 @@
+package com.peerislands.orderprocessingsystem.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Number of orders placed and their summed total for one day.
+ */
+public interface DailyTotals {
+
+    LocalDate getDay();
+
+    Long getOrders();
+
+    BigDecimal getAmount();
+}
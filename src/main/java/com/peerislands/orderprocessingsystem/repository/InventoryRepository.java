@@ -2,6 +2,8 @@ package com.peerislands.orderprocessingsystem.repository;
 
 import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -14,6 +16,26 @@ public interface InventoryRepository extends JpaRepository<InventoryItem, Long>
     @Query("select i from InventoryItem i where i.productCode = :productCode")
     Optional<InventoryItem> findByProductCodeForUpdate(@Param("productCode") String productCode);
 
+    /**
+     * Locks all requested rows in a single statement. Rows are locked in product-code order so that
+     * concurrent callers always acquire overlapping locks in the same sequence and cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from InventoryItem i where i.productCode in :productCodes order by i.productCode asc")
+    List<InventoryItem> findAllByProductCodeInForUpdate(@Param("productCodes") Collection<String> productCodes);
+
     Optional<InventoryItem> findByProductCode(String productCode);
-}
 
+    /**
+     * Availability of every product, read without row locks so it neither waits for nor blocks reservations.
+     */
+    @Query("select i.productCode as productCode, i.stockOnHand - i.reservedQuantity as available from InventoryItem i")
+    List<ProductAvailability> findAllAvailability();
+
+    @Query("""
+        select i.productCode as productCode, i.stockOnHand - i.reservedQuantity as available
+          from InventoryItem i
+         where i.productCode in :productCodes
+        """)
+    List<ProductAvailability> findAvailabilityByProductCodeIn(@Param("productCodes") Collection<String> productCodes);
+}
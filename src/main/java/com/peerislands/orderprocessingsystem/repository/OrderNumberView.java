@@ -0,0 +1,15 @@
+package com.peerislands.orderprocessingsystem.repository;
+
+import com.peerislands.orderprocessingsystem.domain.model.Money;
+
+/**
+ * Id, public order number and total of an order, without loading the entity.
+ */
+public interface OrderNumberView {
+
+    Long getId();
+
+    String getOrderNumber();
+
+    Money getTotalAmount();
+}
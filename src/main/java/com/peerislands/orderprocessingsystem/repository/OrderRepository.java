@@ -2,22 +2,156 @@ package com.peerislands.orderprocessingsystem.repository;
 
 import com.peerislands.orderprocessingsystem.domain.model.Order;
 import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     @EntityGraph(attributePaths = "items")
     List<Order> findAll();
 
-    @EntityGraph(attributePaths = "items")
-    List<Order> findByStatus(OrderStatus status);
-
     boolean existsByOrderNumber(String orderNumber);
 
+    @Query("select o.orderNumber from Order o where o.orderNumber in :orderNumbers")
+    Set<String> findExistingOrderNumbers(@Param("orderNumbers") Collection<String> orderNumbers);
+
     @EntityGraph(attributePaths = "items")
     Optional<Order> findByOrderNumber(String orderNumber);
-}
 
+    /**
+     * Loads an order for a status change and locks its row until the transaction ends. Promotion and expiry claim rows
+     * with {@code FOR UPDATE SKIP LOCKED}, so they pass over a locked order, and a change arriving while they hold it
+     * waits and then sees their outcome.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.orderNumber = :orderNumber")
+    Optional<Order> findForUpdateByOrderNumber(@Param("orderNumber") String orderNumber);
+
+    @Query("select o.status from Order o where o.orderNumber = :orderNumber")
+    Optional<OrderStatus> findStatusByOrderNumber(@Param("orderNumber") String orderNumber);
+
+    /**
+     * Claims the next {@code limit} pending orders created at or before {@code cutoff}, after {@code afterId}, in one
+     * partition of the id space. Rows already locked by another worker or instance are skipped rather than waited
+     * for, so concurrent promoters drain disjoint sets of orders.
+     */
+    @Query(value = """
+        select id from orders
+         where status = 'PENDING' and created_at <= :cutoff and id > :afterId and mod(id, :partitions) = :partition
+         order by id
+         limit :limit
+         for update skip locked
+        """, nativeQuery = true)
+    List<Long> claimPendingOrderIds(
+        @Param("afterId") long afterId,
+        @Param("cutoff") Instant cutoff,
+        @Param("partitions") int partitions,
+        @Param("partition") int partition,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Claims those of the given orders that are still pending, skipping any locked elsewhere.
+     */
+    @Query(value = """
+        select id from orders
+         where id in (:ids) and status = 'PENDING'
+         order by id
+         for update skip locked
+        """, nativeQuery = true)
+    List<Long> claimPendingOrderIdsIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        select o.id as id, o.orderNumber as orderNumber, o.totalAmount as totalAmount
+        from Order o
+        where o.id in :ids
+        order by o.id
+        """)
+    List<OrderNumberView> findOrderNumbersByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        select i.productCode as productCode, sum(i.quantity) as quantity
+        from OrderItem i
+        where i.order.id in :orderIds
+        group by i.productCode
+        """)
+    List<ProductQuantity> sumItemQuantitiesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Order count and summed total per status. {@code totalAmount} is mapped as {@code Money}, so the statistics
+     * queries cast it back to the column's decimal type to sum it.
+     */
+    @Query("""
+        select o.status as status, count(o) as orders, coalesce(sum(cast(o.totalAmount as BigDecimal)), 0) as amount
+        from Order o
+        group by o.status
+        """)
+    List<StatusTotals> sumTotalsByStatus();
+
+    @Query("""
+        select cast(o.createdAt as LocalDate) as day, count(o) as orders, coalesce(sum(cast(o.totalAmount as BigDecimal)), 0) as amount
+        from Order o
+        where o.createdAt >= :since
+        group by cast(o.createdAt as LocalDate)
+        """)
+    List<DailyTotals> sumTotalsByDaySince(@Param("since") Instant since);
+
+    @Query("""
+        select i.productCode as productCode, sum(i.quantity) as quantity
+        from OrderItem i
+        group by i.productCode
+        """)
+    List<ProductQuantity> sumItemQuantitiesByProduct();
+
+    /**
+     * Claims up to {@code limit} pending orders whose reservations expired at or before {@code now}, earliest deadline
+     * first, skipping rows locked elsewhere.
+     */
+    @Query(value = """
+        select id from orders
+         where reserved_until <= :now and status = 'PENDING'
+         order by reserved_until, id
+         limit :limit
+         for update skip locked
+        """, nativeQuery = true)
+    List<Long> claimExpiredOrderIds(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Claims those of the given orders that are still pending with an expired reservation, skipping any locked
+     * elsewhere.
+     */
+    @Query(value = """
+        select id from orders
+         where id in (:ids) and status = 'PENDING' and reserved_until <= :now
+         order by id
+         for update skip locked
+        """, nativeQuery = true)
+    List<Long> claimExpiredOrderIdsIn(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /**
+     * Moves the given orders from {@code expected} to {@code target} in a single statement. Auditing does not apply
+     * to bulk updates, so {@code updatedAt} is set explicitly. Callers only move orders out of {@code PENDING}, so the
+     * reservation deadline is cleared as well.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Order o set o.status = :target, o.updatedAt = :updatedAt, o.reservedUntil = null
+        where o.id in :ids and o.status = :expected
+        """)
+    int updateStatusByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("expected") OrderStatus expected,
+        @Param("target") OrderStatus target,
+        @Param("updatedAt") Instant updatedAt
+    );
+}
@@ -0,0 +1,46 @@
+package com.peerislands.orderprocessingsystem.repository;
+
+import com.peerislands.orderprocessingsystem.domain.model.OrderTicket;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderTicketRepository extends JpaRepository<OrderTicket, Long> {
+
+    Optional<OrderTicket> findByTicketId(String ticketId);
+
+    /**
+     * Locks the ticket if it is still queued and not being processed elsewhere; must run inside a transaction.
+     */
+    @Query(value = """
+        select id from order_tickets
+         where id = :id and status = 'QUEUED'
+         for update skip locked
+        """, nativeQuery = true)
+    Optional<Long> claimQueuedTicket(@Param("id") Long id);
+
+    /**
+     * Oldest queued tickets last touched before {@code before}, read without locks; each is claimed when processed.
+     */
+    @Query(value = """
+        select id from order_tickets
+         where status = 'QUEUED' and updated_at < :before
+         order by updated_at, id
+         limit :limit
+        """, nativeQuery = true)
+    List<Long> findQueuedTicketIds(@Param("before") Instant before, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+        delete from OrderTicket t
+         where t.status in (com.peerislands.orderprocessingsystem.domain.model.OrderTicketStatus.CREATED,
+                            com.peerislands.orderprocessingsystem.domain.model.OrderTicketStatus.REJECTED,
+                            com.peerislands.orderprocessingsystem.domain.model.OrderTicketStatus.FAILED)
+           and t.updatedAt < :cutoff
+        """)
+    int deleteDecidedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,38 @@
+package com.peerislands.orderprocessingsystem.repository;
+
+import com.peerislands.orderprocessingsystem.domain.model.OutboxEvent;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks up to {@code limit} unpublished events in id order, skipping rows another relay already holds.
+     */
+    @Query(
+        value = """
+            select * from order_outbox
+             where published_at is null
+             order by id
+             limit :limit
+             for update skip locked
+            """,
+        nativeQuery = true
+    )
+    List<OutboxEvent> claimUnpublished(@Param("limit") int limit);
+
+    @Query("select coalesce(max(e.sequence), 0) from OutboxEvent e")
+    long findMaxSequence();
+
+    @Query("select e from OutboxEvent e where e.sequence > :after order by e.sequence asc")
+    List<OutboxEvent> findPublishedAfter(@Param("after") long after, Pageable pageable);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
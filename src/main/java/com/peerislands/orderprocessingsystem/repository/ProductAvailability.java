@@ -0,0 +1,11 @@
+package com.peerislands.orderprocessingsystem.repository;
+
+/**
+ * Units of a product that can still be reserved, i.e. stock on hand minus reserved quantity.
+ */
+public interface ProductAvailability {
+
+    String getProductCode();
+
+    Integer getAvailable();
+}
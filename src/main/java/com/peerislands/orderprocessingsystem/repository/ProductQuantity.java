@@ -0,0 +1,11 @@
+package com.peerislands.orderprocessingsystem.repository;
+
+/**
+ * Total quantity per product code, as returned by aggregate item queries.
+ */
+public interface ProductQuantity {
+
+    String getProductCode();
+
+    Long getQuantity();
+}
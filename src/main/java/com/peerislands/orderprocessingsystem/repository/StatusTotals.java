@@ -0,0 +1,16 @@
+package com.peerislands.orderprocessingsystem.repository;
+
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import java.math.BigDecimal;
+
+/**
+ * Number of orders and their summed total for one status.
+ */
+public interface StatusTotals {
+
+    OrderStatus getStatus();
+
+    Long getOrders();
+
+    BigDecimal getAmount();
+}
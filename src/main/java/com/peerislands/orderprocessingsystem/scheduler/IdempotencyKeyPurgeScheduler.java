@@ -0,0 +1,35 @@
+package com.peerislands.orderprocessingsystem.scheduler;
+
+import com.peerislands.orderprocessingsystem.config.OrderIdempotencyProperties;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes idempotency keys older than {@code orders.idempotency.retention} so the key table does not grow without
+ * bound.
+ */
+@Component
+public class IdempotencyKeyPurgeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyPurgeScheduler.class);
+
+    private final OrderService orderService;
+    private final OrderIdempotencyProperties properties;
+
+    public IdempotencyKeyPurgeScheduler(OrderService orderService, OrderIdempotencyProperties properties) {
+        this.orderService = orderService;
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "${orders.idempotency.purge-cron:0 45 * * * *}")
+    public void purgeExpiredKeys() {
+        int purged = orderService.purgeIdempotencyKeys(Instant.now().minus(properties.retention()));
+        if (purged > 0) {
+            log.info("Purged {} idempotency key(s) older than {}", purged, properties.retention());
+        }
+    }
+}
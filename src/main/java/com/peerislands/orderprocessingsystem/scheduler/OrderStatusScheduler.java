@@ -1,25 +1,34 @@
 package com.peerislands.orderprocessingsystem.scheduler;
 
+import com.peerislands.orderprocessingsystem.config.OrderPromotionProperties;
 import com.peerislands.orderprocessingsystem.service.OrderService;
+import java.time.Instant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Reconciliation sweep for order promotion. New orders are normally promoted by
+ * {@link com.peerislands.orderprocessingsystem.service.promotion.PendingOrderPromotionQueue} once their hold period
+ * expires; this sweep promotes anything past its hold period that the queue missed, e.g. across a restart.
+ */
 @Component
 public class OrderStatusScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(OrderStatusScheduler.class);
 
     private final OrderService orderService;
+    private final OrderPromotionProperties promotionProperties;
 
-    public OrderStatusScheduler(OrderService orderService) {
+    public OrderStatusScheduler(OrderService orderService, OrderPromotionProperties promotionProperties) {
         this.orderService = orderService;
+        this.promotionProperties = promotionProperties;
     }
 
-    @Scheduled(cron = "0 */5 * * * *")
+    @Scheduled(cron = "${orders.promotion.sweep-cron:0 */30 * * * *}")
     public void promotePendingOrders() {
-        int updated = orderService.promotePendingOrders();
+        int updated = orderService.promotePendingOrders(Instant.now().minus(promotionProperties.holdPeriod()));
         if (updated > 0) {
             log.info("Promoted {} pending order(s) to PROCESSING status", updated);
         } else {
@@ -27,4 +36,3 @@ public class OrderStatusScheduler {
         }
     }
 }
-
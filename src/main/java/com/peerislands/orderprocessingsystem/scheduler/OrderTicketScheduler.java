@@ -0,0 +1,47 @@
+package com.peerislands.orderprocessingsystem.scheduler;
+
+import com.peerislands.orderprocessingsystem.config.OrderTicketProperties;
+import com.peerislands.orderprocessingsystem.service.ticket.OrderTicketService;
+import com.peerislands.orderprocessingsystem.service.ticket.OrderTicketWorkers;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-queues tickets that missed the in-memory hand-over (restart, full queue, failed attempt) and deletes decided
+ * tickets older than {@code orders.tickets.retention}.
+ */
+@Component
+public class OrderTicketScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderTicketScheduler.class);
+
+    private final OrderTicketWorkers ticketWorkers;
+    private final OrderTicketService ticketService;
+    private final OrderTicketProperties properties;
+
+    public OrderTicketScheduler(OrderTicketWorkers ticketWorkers, OrderTicketService ticketService, OrderTicketProperties properties) {
+        this.ticketWorkers = ticketWorkers;
+        this.ticketService = ticketService;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.tickets.sweep-interval-ms:30000}")
+    public void sweepQueuedTickets() {
+        // Tickets younger than one interval are most likely still on their way through the in-memory queue.
+        int handedOver = ticketWorkers.sweep(Instant.now().minusMillis(properties.sweepIntervalMs()));
+        if (handedOver > 0) {
+            log.info("Sweep re-queued {} order ticket(s)", handedOver);
+        }
+    }
+
+    @Scheduled(cron = "${orders.tickets.purge-cron:0 30 * * * *}")
+    public void purgeDecidedTickets() {
+        int purged = ticketService.purgeDecidedTickets(Instant.now().minus(properties.retention()));
+        if (purged > 0) {
+            log.info("Purged {} order ticket(s) older than {}", purged, properties.retention());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.peerislands.orderprocessingsystem.scheduler;
+
+import com.peerislands.orderprocessingsystem.service.reservation.ReservationExpirer;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconciliation sweep for reservation expiry. Deadlines are normally handled by
+ * {@link com.peerislands.orderprocessingsystem.service.reservation.ReservationExpiryQueue}; this sweep walks the
+ * {@code reserved_until} index for anything the queue missed, e.g. orders created before a restart.
+ */
+@Component
+public class ReservationExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationExpiryScheduler.class);
+
+    private final ReservationExpirer reservationExpirer;
+
+    public ReservationExpiryScheduler(ReservationExpirer reservationExpirer) {
+        this.reservationExpirer = reservationExpirer;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.reservation.sweep-interval-ms:60000}")
+    public void expireDueReservations() {
+        int expired = reservationExpirer.expireDue(Instant.now());
+        if (expired > 0) {
+            log.info("Sweep expired {} pending order(s)", expired);
+        }
+    }
+}
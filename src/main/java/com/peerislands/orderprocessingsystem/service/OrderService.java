@@ -3,21 +3,90 @@ package com.peerislands.orderprocessingsystem.service;
 import com.peerislands.orderprocessingsystem.domain.model.Order;
 import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.service.command.IdempotencyKey;
+import com.peerislands.orderprocessingsystem.service.command.OrderCreationResult;
+import com.peerislands.orderprocessingsystem.service.journal.JournaledOrder;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 public interface OrderService {
 
     Order createOrder(CreateOrderCommand command);
 
+    /**
+     * Returns the response recorded for an idempotency key, or empty if the key has not been used.
+     *
+     * @throws com.peerislands.orderprocessingsystem.domain.exception.IdempotencyKeyReuseException if the key was used
+     *         for a different request
+     */
+    Optional<String> findRecordedResponse(IdempotencyKey idempotencyKey);
+
+    /**
+     * Creates an order at most once per idempotency key and records {@code renderResponse} of the new order with the
+     * key, in the same transaction. If the key was already used for the same request, the recorded response is
+     * returned without validating, reserving or inserting anything.
+     *
+     * @return the recorded response
+     * @throws com.peerislands.orderprocessingsystem.domain.exception.IdempotencyKeyReuseException if the key was used
+     *         for a different request
+     */
+    String createOrder(
+        CreateOrderCommand command,
+        IdempotencyKey idempotencyKey,
+        Function<Order, String> renderResponse
+    );
+
+    /**
+     * Creates several orders in one transaction. Invalid orders and orders whose stock cannot be reserved are
+     * rejected individually; the rest are reserved against the combined demand and inserted together.
+     *
+     * @return one result per command, in the same order
+     */
+    List<OrderCreationResult> createOrders(List<CreateOrderCommand> commands);
+
+    /**
+     * Validates the order, holds its stock in the inventory ledger and appends it to the order journal, returning once
+     * the journal record is on disk. Neither the order nor its reservation is persisted yet; see
+     * {@link #applyJournaledOrders}.
+     *
+     * @throws IllegalStateException if the order journal is not enabled
+     */
+    Order journalOrder(CreateOrderCommand command);
+
+    /**
+     * Inserts journaled orders in one transaction, skipping order numbers that already exist, and publishes their
+     * creation events. The reservations held since the orders were journaled are written to the inventory in the
+     * same transaction; those of skipped orders are dropped.
+     *
+     * @return number of orders inserted
+     */
+    int applyJournaledOrders(List<JournaledOrder> orders);
+
     Order getOrder(String orderNumber);
 
-    List<Order> getOrders(Optional<OrderStatus> statusFilter);
+    /**
+     * Reads only the status of an order, without loading it or its items.
+     */
+    OrderStatus getOrderStatus(String orderNumber);
 
     Order updateOrderStatus(String orderNumber, OrderStatus targetStatus);
 
     Order cancelOrder(String orderNumber);
 
     int promotePendingOrders();
+
+    /**
+     * Promotes pending orders created at or before {@code createdBefore}; used by the reconciliation sweep.
+     */
+    int promotePendingOrders(Instant createdBefore);
+
+    /**
+     * Forgets idempotency keys recorded before {@code createdBefore}.
+     *
+     * @return number of keys deleted
+     */
+    int purgeIdempotencyKeys(Instant createdBefore);
 }
 
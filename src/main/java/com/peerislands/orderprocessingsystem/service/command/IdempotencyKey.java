@@ -0,0 +1,8 @@
+package com.peerislands.orderprocessingsystem.service.command;
+
+/**
+ * Idempotency key supplied with a create request, and a hash of the request body it accompanied. Reusing a key with
+ * a different body is rejected rather than replayed.
+ */
+public record IdempotencyKey(String value, String requestHash) {
+}
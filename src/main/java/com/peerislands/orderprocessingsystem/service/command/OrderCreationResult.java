@@ -0,0 +1,28 @@
+package com.peerislands.orderprocessingsystem.service.command;
+
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+
+/**
+ * Outcome of one order in a batch create: either the persisted order or the reason it was rejected.
+ *
+ * @param invalid whether the order was rejected because the request itself is invalid rather than, e.g., for lack of
+ *                stock
+ */
+public record OrderCreationResult(Order order, String rejectionReason, boolean invalid) {
+
+    public static OrderCreationResult created(Order order) {
+        return new OrderCreationResult(order, null, false);
+    }
+
+    public static OrderCreationResult rejected(String reason) {
+        return new OrderCreationResult(null, reason, false);
+    }
+
+    public static OrderCreationResult invalid(String reason) {
+        return new OrderCreationResult(null, reason, true);
+    }
+
+    public boolean isCreated() {
+        return order != null;
+    }
+}
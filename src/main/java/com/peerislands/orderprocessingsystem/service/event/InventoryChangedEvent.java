@@ -0,0 +1,9 @@
+package com.peerislands.orderprocessingsystem.service.event;
+
+import java.util.Set;
+
+/**
+ * Published inside a transaction that changes stock or reservations of the given products in {@code inventory_items}.
+ */
+public record InventoryChangedEvent(Set<String> productCodes) {
+}
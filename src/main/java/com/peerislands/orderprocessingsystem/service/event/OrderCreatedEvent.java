@@ -0,0 +1,22 @@
+package com.peerislands.orderprocessingsystem.service.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Published inside the creating transaction once a new order has been persisted.
+ *
+ * @param quantitiesByProductCode ordered units per product code, with duplicate lines merged
+ * @param reservedUntil           when the order's reservations expire if it is still pending; {@code null} when
+ *                                reservations do not expire
+ */
+public record OrderCreatedEvent(
+    Long orderId,
+    String orderNumber,
+    BigDecimal totalAmount,
+    Map<String, Integer> quantitiesByProductCode,
+    Instant createdAt,
+    Instant reservedUntil
+) {
+}
@@ -0,0 +1,19 @@
+package com.peerislands.orderprocessingsystem.service.event;
+
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Published inside the transaction that moves an order from one status to another, including cancellation and
+ * promotion.
+ */
+public record OrderStatusChangedEvent(
+    Long orderId,
+    String orderNumber,
+    OrderStatus previousStatus,
+    OrderStatus status,
+    BigDecimal totalAmount,
+    Instant occurredAt
+) {
+}
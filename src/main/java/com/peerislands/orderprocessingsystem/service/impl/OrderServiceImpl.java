@@ -1,21 +1,48 @@
 package com.peerislands.orderprocessingsystem.service.impl;
 
+import com.peerislands.orderprocessingsystem.config.OrderReservationProperties;
+import com.peerislands.orderprocessingsystem.domain.exception.IdempotencyKeyReuseException;
 import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
 import com.peerislands.orderprocessingsystem.domain.exception.OrderNotFoundException;
 import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderIdempotencyKey;
 import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
 import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.repository.OrderIdempotencyKeyRepository;
 import com.peerislands.orderprocessingsystem.repository.OrderRepository;
 import com.peerislands.orderprocessingsystem.service.OrderService;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.service.command.IdempotencyKey;
+import com.peerislands.orderprocessingsystem.service.command.OrderCreationResult;
+import com.peerislands.orderprocessingsystem.service.event.OrderCreatedEvent;
+import com.peerislands.orderprocessingsystem.service.event.OrderStatusChangedEvent;
+import com.peerislands.orderprocessingsystem.service.journal.JournaledOrder;
+import com.peerislands.orderprocessingsystem.service.journal.JournaledOrderCodec;
+import com.peerislands.orderprocessingsystem.service.journal.OrderJournal;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import com.peerislands.orderprocessingsystem.service.promotion.PendingOrderPromoter;
 import com.peerislands.orderprocessingsystem.service.util.OrderNumberGenerator;
 import com.peerislands.orderprocessingsystem.service.inventory.InventoryService;
+import com.peerislands.orderprocessingsystem.service.inventory.ReservationOutcome;
+import com.peerislands.orderprocessingsystem.service.inventory.ledger.LedgerInventoryService;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -23,45 +50,268 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
     private final OrderNumberGenerator orderNumberGenerator;
     private final InventoryService inventoryService;
+    private final PendingOrderPromoter pendingOrderPromoter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderMetrics orderMetrics;
+    private final OrderReservationProperties reservationProperties;
+    private final ObjectProvider<OrderJournal> orderJournal;
+    private final ObjectProvider<LedgerInventoryService> ledgerInventoryService;
 
     public OrderServiceImpl(
         OrderRepository orderRepository,
+        OrderIdempotencyKeyRepository idempotencyKeyRepository,
         OrderNumberGenerator orderNumberGenerator,
-        InventoryService inventoryService
+        InventoryService inventoryService,
+        PendingOrderPromoter pendingOrderPromoter,
+        ApplicationEventPublisher eventPublisher,
+        OrderMetrics orderMetrics,
+        OrderReservationProperties reservationProperties,
+        ObjectProvider<OrderJournal> orderJournal,
+        ObjectProvider<LedgerInventoryService> ledgerInventoryService
     ) {
         this.orderRepository = orderRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
         this.orderNumberGenerator = orderNumberGenerator;
         this.inventoryService = inventoryService;
+        this.pendingOrderPromoter = pendingOrderPromoter;
+        this.eventPublisher = eventPublisher;
+        this.orderMetrics = orderMetrics;
+        this.reservationProperties = reservationProperties;
+        this.orderJournal = orderJournal;
+        this.ledgerInventoryService = ledgerInventoryService;
     }
 
     @Override
     public Order createOrder(CreateOrderCommand command) {
         Objects.requireNonNull(command, "CreateOrderCommand must not be null");
+        orderMetrics.timeTransaction("create");
         validateOrderDetails(command);
         validateItems(command.items());
+        return placeOrder(command, generateUniqueOrderNumber());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findRecordedResponse(IdempotencyKey idempotencyKey) {
+        Objects.requireNonNull(idempotencyKey, "IdempotencyKey must not be null");
+        return idempotencyKeyRepository.findByIdempotencyKey(idempotencyKey.value())
+            .map(existing -> replay(existing, idempotencyKey));
+    }
+
+    @Override
+    public String createOrder(
+        CreateOrderCommand command,
+        IdempotencyKey idempotencyKey,
+        Function<Order, String> renderResponse
+    ) {
+        Objects.requireNonNull(command, "CreateOrderCommand must not be null");
+        Objects.requireNonNull(idempotencyKey, "IdempotencyKey must not be null");
+        Optional<OrderIdempotencyKey> existing = idempotencyKeyRepository.findByIdempotencyKey(idempotencyKey.value());
+        if (existing.isPresent()) {
+            return replay(existing.get(), idempotencyKey);
+        }
+
+        orderMetrics.timeTransaction("create");
+        validateOrderDetails(command);
+        validateItems(command.items());
+        String orderNumber = generateUniqueOrderNumber();
+        // Claim the key before touching inventory: a concurrent duplicate blocks on the unique index here and fails
+        // once this transaction commits, without having reserved any stock.
+        OrderIdempotencyKey claimed = idempotencyKeyRepository.saveAndFlush(
+            new OrderIdempotencyKey(idempotencyKey.value(), idempotencyKey.requestHash(), orderNumber, Instant.now())
+        );
+        String response = renderResponse.apply(placeOrder(command, orderNumber));
+        claimed.recordResponse(response);
+        return response;
+    }
+
+    private String replay(OrderIdempotencyKey existing, IdempotencyKey idempotencyKey) {
+        if (!existing.getRequestHash().equals(idempotencyKey.requestHash())) {
+            throw new IdempotencyKeyReuseException(idempotencyKey.value());
+        }
+        return existing.getResponseBody();
+    }
+
+    private Order placeOrder(CreateOrderCommand command, String orderNumber) {
         inventoryService.reserveItems(command.items());
+        Order savedOrder = orderRepository.save(toOrder(command, orderNumber));
+        publishCreated(savedOrder);
+        return savedOrder;
+    }
+
+    @Override
+    public List<OrderCreationResult> createOrders(List<CreateOrderCommand> commands) {
+        Objects.requireNonNull(commands, "Commands must not be null");
+        orderMetrics.timeTransaction("create_batch");
+        OrderCreationResult[] results = new OrderCreationResult[commands.size()];
+
+        List<Integer> valid = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            CreateOrderCommand command = commands.get(i);
+            if (command == null) {
+                results[i] = OrderCreationResult.invalid("Order must not be null");
+                continue;
+            }
+            try {
+                validateOrderDetails(command);
+                validateItems(command.items());
+                valid.add(i);
+            } catch (InvalidOrderStateException ex) {
+                results[i] = OrderCreationResult.invalid(ex.getMessage());
+            }
+        }
 
-        Order order = new Order(
-            generateUniqueOrderNumber(),
-            command.customerName(),
-            command.customerEmail(),
-            command.shippingAddress()
+        List<ReservationOutcome> reservations = inventoryService.reserveEach(
+            valid.stream().map(index -> commands.get(index).items()).toList()
         );
-        command.items().forEach(itemCommand -> order.addItem(toOrderItem(itemCommand)));
+        List<Integer> reserved = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            ReservationOutcome reservation = reservations.get(i);
+            if (reservation.isReserved()) {
+                reserved.add(valid.get(i));
+            } else {
+                results[valid.get(i)] = OrderCreationResult.rejected(reservation.rejectionReason());
+            }
+        }
 
-        return orderRepository.save(order);
+        List<String> orderNumbers = generateUniqueOrderNumbers(reserved.size());
+        List<Order> orders = new ArrayList<>(reserved.size());
+        for (int i = 0; i < reserved.size(); i++) {
+            orders.add(toOrder(commands.get(reserved.get(i)), orderNumbers.get(i)));
+        }
+        // Sequence-generated ids let Hibernate batch these inserts (hibernate.jdbc.batch_size) at flush time.
+        orderRepository.saveAll(orders);
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            results[reserved.get(i)] = OrderCreationResult.created(order);
+            publishCreated(order);
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Order journalOrder(CreateOrderCommand command) {
+        Objects.requireNonNull(command, "CreateOrderCommand must not be null");
+        OrderJournal journal = orderJournal.getIfAvailable();
+        if (journal == null) {
+            throw new IllegalStateException("The order journal is not enabled");
+        }
+        LedgerInventoryService ledger = journalLedger();
+        validateOrderDetails(command);
+        validateItems(command.items());
+        ledger.holdJournaled(command.items());
+        Order order = toOrder(command, generateUniqueOrderNumber());
+        try {
+            journal.append(JournaledOrderCodec.encode(order));
+        } catch (RuntimeException ex) {
+            ledger.discardJournaled(command.items());
+            throw ex;
+        }
+        return order;
+    }
+
+    @Override
+    public int applyJournaledOrders(List<JournaledOrder> journaledOrders) {
+        Objects.requireNonNull(journaledOrders, "Journaled orders must not be null");
+        if (journaledOrders.isEmpty()) {
+            return 0;
+        }
+        LedgerInventoryService ledger = journalLedger();
+        orderMetrics.timeTransaction("apply_journal");
+        Map<String, JournaledOrder> byNumber = new LinkedHashMap<>();
+        List<JournaledOrder> skipped = new ArrayList<>();
+        for (JournaledOrder journaled : journaledOrders) {
+            if (byNumber.putIfAbsent(journaled.orderNumber(), journaled) != null) {
+                skipped.add(journaled);
+            }
+        }
+        // Records applied just before a crash are replayed from the last checkpoint; their orders and reservations
+        // are already in the database.
+        for (String existing : orderRepository.findExistingOrderNumbers(byNumber.keySet())) {
+            skipped.add(byNumber.remove(existing));
+        }
+
+        List<Order> orders = new ArrayList<>(byNumber.size());
+        for (JournaledOrder journaled : byNumber.values()) {
+            Order order = new Order(
+                journaled.orderNumber(),
+                journaled.customerName(),
+                journaled.customerEmail(),
+                journaled.shippingAddress()
+            );
+            journaled.items().forEach(itemCommand -> order.addItem(toOrderItem(itemCommand)));
+            if (journaled.reservedUntil() != null) {
+                order.holdReservationUntil(journaled.reservedUntil());
+            }
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+        ledger.persistJournaled(byNumber.values().stream().map(JournaledOrder::items).toList());
+        skipped.forEach(journaled -> ledger.discardJournaled(journaled.items()));
+        orders.forEach(this::publishCreated);
+        return orders.size();
+    }
+
+    private LedgerInventoryService journalLedger() {
+        LedgerInventoryService ledger = ledgerInventoryService.getIfAvailable();
+        if (ledger == null) {
+            throw new IllegalStateException("The order journal requires inventory.reservation.mode=ledger");
+        }
+        return ledger;
+    }
+
+    private Order toOrder(CreateOrderCommand command, String orderNumber) {
+        Order order = new Order(orderNumber, command.customerName(), command.customerEmail(), command.shippingAddress());
+        command.items().forEach(itemCommand -> order.addItem(toOrderItem(itemCommand)));
+        if (reservationProperties.enabled()) {
+            order.holdReservationUntil(Instant.now().plus(reservationProperties.ttl()));
+        }
+        return order;
     }
 
     private String generateUniqueOrderNumber() {
-        String orderNumber;
-        do {
+        if (orderNumberGenerator.isUniqueByConstruction()) {
+            return orderNumberGenerator.generate();
+        }
+        String orderNumber = orderNumberGenerator.generate();
+        while (orderRepository.existsByOrderNumber(orderNumber)) {
+            orderMetrics.orderNumberCollisions(1);
             orderNumber = orderNumberGenerator.generate();
-        } while (orderRepository.existsByOrderNumber(orderNumber));
+        }
         return orderNumber;
     }
 
+    /**
+     * Generates {@code count} distinct order numbers, checking candidates against the database in one query per
+     * round rather than one per number.
+     */
+    private List<String> generateUniqueOrderNumbers(int count) {
+        Set<String> orderNumbers = new LinkedHashSet<>(count * 2);
+        Set<String> candidates = new LinkedHashSet<>();
+        while (orderNumbers.size() < count) {
+            candidates.clear();
+            while (orderNumbers.size() + candidates.size() < count) {
+                String candidate = orderNumberGenerator.generate();
+                if (!orderNumbers.contains(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            if (!orderNumberGenerator.isUniqueByConstruction()) {
+                Set<String> taken = orderRepository.findExistingOrderNumbers(candidates);
+                if (!taken.isEmpty()) {
+                    orderMetrics.orderNumberCollisions(taken.size());
+                    candidates.removeAll(taken);
+                }
+            }
+            orderNumbers.addAll(candidates);
+        }
+        return new ArrayList<>(orderNumbers);
+    }
+
     private void validateOrderDetails(CreateOrderCommand command) {
         if (isNullOrEmpty(command.customerName())) {
             throw new InvalidOrderStateException("Customer name is required");
@@ -107,15 +357,22 @@ public class OrderServiceImpl implements OrderService {
             .orElseThrow(() -> new OrderNotFoundException("Order %s not found".formatted(orderNumber)));
     }
 
+    private Order getOrderForUpdate(String orderNumber) {
+        return orderRepository.findForUpdateByOrderNumber(orderNumber)
+            .orElseThrow(() -> new OrderNotFoundException("Order %s not found".formatted(orderNumber)));
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<Order> getOrders(Optional<OrderStatus> statusFilter) {
-        return statusFilter.map(orderRepository::findByStatus).orElseGet(orderRepository::findAll);
+    public OrderStatus getOrderStatus(String orderNumber) {
+        return orderRepository.findStatusByOrderNumber(orderNumber)
+            .orElseThrow(() -> new OrderNotFoundException("Order %s not found".formatted(orderNumber)));
     }
 
     @Override
     public Order updateOrderStatus(String orderNumber, OrderStatus targetStatus) {
-        Order order = getOrder(orderNumber);
+        orderMetrics.timeTransaction("update_status");
+        Order order = getOrderForUpdate(orderNumber);
         OrderStatus previousStatus = order.getStatus();
         if (targetStatus == OrderStatus.CANCELLED) {
             throw new InvalidOrderStateException("Use the cancel endpoint to cancel an order");
@@ -125,31 +382,63 @@ public class OrderServiceImpl implements OrderService {
         if (previousStatus == OrderStatus.PENDING && targetStatus == OrderStatus.PROCESSING) {
             inventoryService.commitReservations(updatedOrder);
         }
+        publishStatusChange(updatedOrder, previousStatus);
         return updatedOrder;
     }
 
     @Override
     public Order cancelOrder(String orderNumber) {
-        Order order = getOrder(orderNumber);
+        orderMetrics.timeTransaction("cancel");
+        Order order = getOrderForUpdate(orderNumber);
+        OrderStatus previousStatus = order.getStatus();
         order.cancel();
         inventoryService.releaseReservations(order);
-        return orderRepository.save(order);
+        Order cancelledOrder = orderRepository.save(order);
+        publishStatusChange(cancelledOrder, previousStatus);
+        return cancelledOrder;
+    }
+
+    private void publishStatusChange(Order order, OrderStatus previousStatus) {
+        if (order.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order.getId(),
+                order.getOrderNumber(),
+                previousStatus,
+                order.getStatus(),
+                order.getTotalAmount(),
+                Instant.now()
+            ));
+        }
+    }
+
+    private void publishCreated(Order order) {
+        Map<String, Integer> quantities = new HashMap<>();
+        order.getItems().forEach(item -> quantities.merge(item.getProductCode(), item.getQuantity(), Integer::sum));
+        eventPublisher.publishEvent(new OrderCreatedEvent(
+            order.getId(),
+            order.getOrderNumber(),
+            order.getTotalAmount(),
+            quantities,
+            order.getCreatedAt(),
+            order.getReservedUntil()
+        ));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int promotePendingOrders() {
-        List<Order> pendingOrders = orderRepository.findByStatus(OrderStatus.PENDING);
-        int updatedCount = 0;
-        for (Order order : pendingOrders) {
-            if (order.markProcessing()) {
-                updatedCount++;
-                inventoryService.commitReservations(order);
-            }
-        }
-        if (updatedCount > 0) {
-            orderRepository.saveAll(pendingOrders);
-        }
-        return updatedCount;
+        return promotePendingOrders(Instant.now());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int promotePendingOrders(Instant createdBefore) {
+        // Each chunk commits on its own; see PendingOrderPromoter.
+        return pendingOrderPromoter.promoteCreatedBefore(createdBefore);
     }
-}
 
+    @Override
+    public int purgeIdempotencyKeys(Instant createdBefore) {
+        return idempotencyKeyRepository.deleteCreatedBefore(createdBefore);
+    }
+}
@@ -0,0 +1,176 @@
+package com.peerislands.orderprocessingsystem.service.intake;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderIntakeProperties;
+import com.peerislands.orderprocessingsystem.domain.exception.IntakeQueueFullException;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.service.command.OrderCreationResult;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Group commit for single-order creation. Callers enqueue validated commands on a bounded queue and get a future;
+ * {@code orders.intake.writers} writer threads drain the queue in micro-batches of up to
+ * {@code orders.intake.batch-size} and create each batch through {@link OrderService#createOrders}, i.e. one lock
+ * pass, one insert batch and one commit for the whole batch. Every future completes with its own order or rejection.
+ * <p>
+ * A writer that finds a partial batch waits at most {@code orders.intake.max-wait} for more orders. Under load the
+ * queue refills while writers commit, so batches grow with the arrival rate and commits per order fall accordingly.
+ * When the queue is full {@link #submit} fails fast with {@link IntakeQueueFullException} instead of queueing
+ * unbounded work. Orders still queued at shutdown are written before the writers exit.
+ */
+@Component
+public class OrderIntakePipeline implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIntakePipeline.class);
+
+    private final OrderService orderService;
+    private final OrderIntakeProperties properties;
+    private final OrderMetrics orderMetrics;
+    private final ThreadFactory threadFactory;
+    private final BlockingQueue<Submission> queue;
+    private final List<Thread> writers = new ArrayList<>();
+    private volatile boolean accepting = true;
+
+    public OrderIntakePipeline(
+        OrderService orderService,
+        OrderIntakeProperties properties,
+        OrderMetrics orderMetrics,
+        BackgroundTaskExecutors backgroundTaskExecutors
+    ) {
+        this.orderService = orderService;
+        this.properties = properties;
+        this.orderMetrics = orderMetrics;
+        this.threadFactory = backgroundTaskExecutors.threadFactory("order-intake-");
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        orderMetrics.intakeQueue(queue);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Queues one order for the next batch.
+     *
+     * @throws IntakeQueueFullException when the queue is at capacity or the pipeline is shutting down
+     */
+    public CompletableFuture<OrderCreationResult> submit(CreateOrderCommand command) {
+        Submission submission = new Submission(command, new CompletableFuture<>());
+        if (!accepting || !queue.offer(submission)) {
+            throw new IntakeQueueFullException(properties.queueCapacity());
+        }
+        return submission.result();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!properties.enabled() || !writers.isEmpty()) {
+            return;
+        }
+        accepting = true;
+        for (int i = 0; i < Math.max(1, properties.writers()); i++) {
+            Thread writer = threadFactory.newThread(this::runWriter);
+            writers.add(writer);
+            writer.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        accepting = false;
+        writers.forEach(Thread::interrupt);
+        for (Thread writer : writers) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        writers.clear();
+        List<Submission> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += properties.batchSize()) {
+            write(remaining.subList(from, Math.min(remaining.size(), from + properties.batchSize())));
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return !writers.isEmpty();
+    }
+
+    /**
+     * Starts before and stops after the web server, so requests accepted during graceful shutdown are still written.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runWriter() {
+        List<Submission> batch = new ArrayList<>(properties.batchSize());
+        boolean interrupted = false;
+        while (!interrupted) {
+            try {
+                batch.add(queue.take());
+                fill(batch);
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+            // Submissions taken before an interrupt are still written; only the wait for more is cut short.
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<Submission> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.maxWait().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            if (queue.drainTo(batch, properties.batchSize() - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Submission next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<Submission> batch) {
+        orderMetrics.intakeBatch(batch.size());
+        List<OrderCreationResult> results;
+        try {
+            results = orderService.createOrders(batch.stream().map(Submission::command).toList());
+        } catch (RuntimeException ex) {
+            log.warn("Order intake batch of {} order(s) failed", batch.size(), ex);
+            batch.forEach(submission -> submission.result().completeExceptionally(ex));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+
+    private record Submission(CreateOrderCommand command, CompletableFuture<OrderCreationResult> result) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.peerislands.orderprocessingsystem.service.inventory;
+
+import com.peerislands.orderprocessingsystem.config.InventoryAvailabilityProperties;
+import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
+import com.peerislands.orderprocessingsystem.repository.ProductAvailability;
+import com.peerislands.orderprocessingsystem.service.event.InventoryChangedEvent;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Copy-on-write snapshot of available units per product, behind {@code GET /api/v1/inventory/availability}. Readers
+ * only dereference an immutable map, so availability lookups never touch the database or contend with reservations.
+ * <p>
+ * Products changed by committed transactions are collected from {@link InventoryChangedEvent}s and re-read every
+ * {@code inventory.availability.refresh-interval-ms}; the whole snapshot is rebuilt every
+ * {@code inventory.availability.reload-interval-ms} to pick up changes made by other nodes or outside the
+ * application. Both reads are plain selects without row locks. In ledger mode the rows lag the ledger by one
+ * write-behind flush, and so does the snapshot.
+ */
+@Component
+public class InventoryAvailability implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryAvailability.class);
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryAvailabilityProperties properties;
+    private final Clock clock = Clock.systemUTC();
+
+    private final Set<String> changedProductCodes = ConcurrentHashMap.newKeySet();
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Instant.EPOCH);
+    private long lastReloadNanos;
+
+    public InventoryAvailability(InventoryRepository inventoryRepository, InventoryAvailabilityProperties properties) {
+        this.inventoryRepository = inventoryRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+        log.info("Loaded availability for {} product(s)", snapshot.available().size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        changedProductCodes.addAll(event.productCodes());
+    }
+
+    /**
+     * Available units for the requested products, in request order. Unknown products are left out.
+     */
+    public Map<String, Integer> available(Collection<String> productCodes) {
+        Map<String, Integer> current = snapshot.available();
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (String productCode : productCodes) {
+            Integer available = current.get(productCode);
+            if (available != null) {
+                result.put(productCode, available);
+            }
+        }
+        return result;
+    }
+
+    public Instant refreshedAt() {
+        return snapshot.refreshedAt();
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.availability.refresh-interval-ms:200}")
+    public synchronized void refresh() {
+        if (System.nanoTime() - lastReloadNanos >= TimeUnit.MILLISECONDS.toNanos(properties.reloadIntervalMs())) {
+            reload();
+            return;
+        }
+        if (changedProductCodes.isEmpty()) {
+            return;
+        }
+        // Codes are removed before they are read, so a change committed meanwhile is picked up on the next refresh.
+        List<String> productCodes = new ArrayList<>(changedProductCodes);
+        changedProductCodes.removeAll(productCodes);
+
+        Map<String, Integer> next = new HashMap<>(snapshot.available());
+        productCodes.forEach(next::remove);
+        for (int from = 0; from < productCodes.size(); from += REFRESH_CHUNK_SIZE) {
+            List<String> chunk = productCodes.subList(from, Math.min(productCodes.size(), from + REFRESH_CHUNK_SIZE));
+            inventoryRepository.findAvailabilityByProductCodeIn(chunk)
+                .forEach(product -> next.put(product.getProductCode(), product.getAvailable()));
+        }
+        publish(next);
+    }
+
+    public synchronized void reload() {
+        changedProductCodes.clear();
+        Map<String, Integer> next = new HashMap<>();
+        for (ProductAvailability product : inventoryRepository.findAllAvailability()) {
+            next.put(product.getProductCode(), product.getAvailable());
+        }
+        lastReloadNanos = System.nanoTime();
+        publish(next);
+    }
+
+    private void publish(Map<String, Integer> available) {
+        snapshot = new Snapshot(Collections.unmodifiableMap(available), clock.instant());
+    }
+
+    private record Snapshot(Map<String, Integer> available, Instant refreshedAt) {
+    }
+}
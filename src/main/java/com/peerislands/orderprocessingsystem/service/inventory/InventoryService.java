@@ -3,13 +3,32 @@ package com.peerislands.orderprocessingsystem.service.inventory;
 import com.peerislands.orderprocessingsystem.domain.model.Order;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
 import java.util.List;
+import java.util.Map;
 
 public interface InventoryService {
 
     void reserveItems(List<CreateOrderItemCommand> items);
 
+    /**
+     * Reserves stock for several orders in one pass. Orders are considered in list order and each is all or nothing:
+     * it is reserved only if every one of its lines fits in the stock left by the orders before it.
+     *
+     * @return one outcome per order, in the same order
+     */
+    List<ReservationOutcome> reserveEach(List<List<CreateOrderItemCommand>> orders);
+
     void releaseReservations(Order order);
 
     void commitReservations(Order order);
+
+    /**
+     * Commits reservations for several orders at once, given the total quantity per product code.
+     */
+    void commitQuantities(Map<String, Integer> quantitiesByProductCode);
+
+    /**
+     * Releases reservations for several orders at once, given the total quantity per product code.
+     */
+    void releaseQuantities(Map<String, Integer> quantitiesByProductCode);
 }
 
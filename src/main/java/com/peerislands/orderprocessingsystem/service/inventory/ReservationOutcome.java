@@ -0,0 +1,23 @@
+package com.peerislands.orderprocessingsystem.service.inventory;
+
+/**
+ * Result of reserving stock for one order of a batch.
+ *
+ * @param rejectionReason why the order's stock was not reserved, or {@code null} when it was
+ */
+public record ReservationOutcome(String rejectionReason) {
+
+    private static final ReservationOutcome RESERVED = new ReservationOutcome(null);
+
+    public static ReservationOutcome reserved() {
+        return RESERVED;
+    }
+
+    public static ReservationOutcome rejected(String reason) {
+        return new ReservationOutcome(reason);
+    }
+
+    public boolean isReserved() {
+        return rejectionReason == null;
+    }
+}
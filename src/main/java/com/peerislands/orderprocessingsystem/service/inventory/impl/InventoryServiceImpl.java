@@ -1,54 +1,184 @@
 package com.peerislands.orderprocessingsystem.service.inventory.impl;
 
+import com.peerislands.orderprocessingsystem.domain.exception.InsufficientInventoryException;
 import com.peerislands.orderprocessingsystem.domain.exception.ResourceNotFoundException;
 import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
 import com.peerislands.orderprocessingsystem.domain.model.Order;
 import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
 import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.service.event.InventoryChangedEvent;
 import com.peerislands.orderprocessingsystem.service.inventory.InventoryService;
+import com.peerislands.orderprocessingsystem.service.inventory.ReservationOutcome;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Database-backed inventory. Every operation merges its lines per product code, locks all affected rows with a
+ * single ordered {@code SELECT ... FOR UPDATE} and mutates them in memory; Hibernate then flushes the changes as
+ * one JDBC batch at commit. Each change publishes an {@link InventoryChangedEvent} for the affected products.
+ */
 @Service
+@ConditionalOnProperty(prefix = "inventory.reservation", name = "mode", havingValue = "database", matchIfMissing = true)
 @Transactional(propagation = Propagation.MANDATORY)
 public class InventoryServiceImpl implements InventoryService {
 
+    private static final String MODE = "database";
+
     private final InventoryRepository inventoryRepository;
+    private final OrderMetrics orderMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer reservationTimer;
+    private final Timer lockWaitTimer;
 
-    public InventoryServiceImpl(InventoryRepository inventoryRepository) {
+    public InventoryServiceImpl(
+        InventoryRepository inventoryRepository,
+        OrderMetrics orderMetrics,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.inventoryRepository = inventoryRepository;
+        this.orderMetrics = orderMetrics;
+        this.eventPublisher = eventPublisher;
+        this.reservationTimer = orderMetrics.reservation(MODE);
+        this.lockWaitTimer = orderMetrics.lockWait(MODE);
     }
 
     @Override
     public void reserveItems(List<CreateOrderItemCommand> items) {
-        for (CreateOrderItemCommand item : items) {
-            InventoryItem inventoryItem = findInventoryForUpdate(item.productCode());
-            inventoryItem.reserve(item.quantity());
+        reservationTimer.record(() -> {
+            try {
+                apply(mergeQuantities(items, CreateOrderItemCommand::productCode, CreateOrderItemCommand::quantity), InventoryItem::reserve);
+            } catch (InsufficientInventoryException ex) {
+                orderMetrics.insufficientInventory();
+                throw ex;
+            }
+        });
+    }
+
+    @Override
+    public List<ReservationOutcome> reserveEach(List<List<CreateOrderItemCommand>> orders) {
+        List<SortedMap<String, Integer>> demands = new ArrayList<>(orders.size());
+        SortedSet<String> productCodes = new TreeSet<>();
+        for (List<CreateOrderItemCommand> items : orders) {
+            SortedMap<String, Integer> demand = mergeQuantities(items, CreateOrderItemCommand::productCode, CreateOrderItemCommand::quantity);
+            demands.add(demand);
+            productCodes.addAll(demand.keySet());
+        }
+        if (productCodes.isEmpty()) {
+            return demands.stream().map(demand -> ReservationOutcome.reserved()).toList();
+        }
+
+        Map<String, InventoryItem> inventory = lockRows(productCodes);
+        Map<String, Integer> remaining = new HashMap<>(inventory.size() * 2);
+        inventory.forEach((productCode, item) -> remaining.put(productCode, item.getAvailableQuantity()));
+
+        SortedMap<String, Integer> accepted = new TreeMap<>();
+        List<ReservationOutcome> outcomes = new ArrayList<>(demands.size());
+        for (SortedMap<String, Integer> demand : demands) {
+            String shortfall = findShortfall(demand, remaining);
+            if (shortfall != null) {
+                outcomes.add(ReservationOutcome.rejected(shortfall));
+                continue;
+            }
+            demand.forEach((productCode, quantity) -> {
+                remaining.merge(productCode, -quantity, Integer::sum);
+                accepted.merge(productCode, quantity, Integer::sum);
+            });
+            outcomes.add(ReservationOutcome.reserved());
+        }
+        accepted.forEach((productCode, quantity) -> inventory.get(productCode).reserve(quantity));
+        if (!accepted.isEmpty()) {
+            eventPublisher.publishEvent(new InventoryChangedEvent(Set.copyOf(accepted.keySet())));
         }
+        return outcomes;
+    }
+
+    private String findShortfall(SortedMap<String, Integer> demand, Map<String, Integer> remaining) {
+        for (Map.Entry<String, Integer> line : demand.entrySet()) {
+            Integer available = remaining.get(line.getKey());
+            if (available == null) {
+                return "Inventory not found for product %s".formatted(line.getKey());
+            }
+            if (available < line.getValue()) {
+                orderMetrics.insufficientInventory();
+                return "Insufficient inventory for product %s. Requested: %d, Available: %d".formatted(line.getKey(), line.getValue(), available);
+            }
+        }
+        return null;
     }
 
     @Override
     public void releaseReservations(Order order) {
-        for (OrderItem orderItem : order.getItems()) {
-            InventoryItem inventoryItem = findInventoryForUpdate(orderItem.getProductCode());
-            inventoryItem.release(orderItem.getQuantity());
-        }
+        apply(mergeQuantities(order.getItems(), OrderItem::getProductCode, OrderItem::getQuantity), InventoryItem::release);
     }
 
     @Override
     public void commitReservations(Order order) {
-        for (OrderItem orderItem : order.getItems()) {
-            InventoryItem inventoryItem = findInventoryForUpdate(orderItem.getProductCode());
-            inventoryItem.commit(orderItem.getQuantity());
+        apply(mergeQuantities(order.getItems(), OrderItem::getProductCode, OrderItem::getQuantity), InventoryItem::commit);
+    }
+
+    @Override
+    public void commitQuantities(Map<String, Integer> quantitiesByProductCode) {
+        apply(new TreeMap<>(quantitiesByProductCode), InventoryItem::commit);
+    }
+
+    @Override
+    public void releaseQuantities(Map<String, Integer> quantitiesByProductCode) {
+        apply(new TreeMap<>(quantitiesByProductCode), InventoryItem::release);
+    }
+
+    private void apply(SortedMap<String, Integer> quantities, BiConsumer<InventoryItem, Integer> operation) {
+        if (quantities.isEmpty()) {
+            return;
         }
+        Map<String, InventoryItem> inventory = lockInventory(quantities);
+        quantities.forEach((productCode, quantity) -> operation.accept(inventory.get(productCode), quantity));
+        eventPublisher.publishEvent(new InventoryChangedEvent(Set.copyOf(quantities.keySet())));
     }
 
-    private InventoryItem findInventoryForUpdate(String productCode) {
-        return inventoryRepository.findByProductCodeForUpdate(productCode)
-            .orElseThrow(() -> new ResourceNotFoundException("Inventory not found for product %s".formatted(productCode)));
+    private Map<String, InventoryItem> lockInventory(SortedMap<String, Integer> quantities) {
+        Map<String, InventoryItem> inventory = lockRows(quantities.keySet());
+        for (String productCode : quantities.keySet()) {
+            if (!inventory.containsKey(productCode)) {
+                throw new ResourceNotFoundException("Inventory not found for product %s".formatted(productCode));
+            }
+        }
+        return inventory;
+    }
+
+    private Map<String, InventoryItem> lockRows(Collection<String> productCodes) {
+        List<InventoryItem> lockedItems = lockWaitTimer.record(() -> inventoryRepository.findAllByProductCodeInForUpdate(productCodes));
+        Map<String, InventoryItem> inventory = new HashMap<>(lockedItems.size() * 2);
+        lockedItems.forEach(item -> inventory.put(item.getProductCode(), item));
+        return inventory;
     }
-}
 
+    private static <T> SortedMap<String, Integer> mergeQuantities(
+        List<T> lines,
+        Function<T, String> productCode,
+        Function<T, Integer> quantity
+    ) {
+        SortedMap<String, Integer> merged = new TreeMap<>();
+        for (T line : lines) {
+            merged.merge(productCode.apply(line), quantity.apply(line), Integer::sum);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,176 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+import com.peerislands.orderprocessingsystem.domain.exception.ResourceNotFoundException;
+import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
+import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authoritative in-memory copy of the inventory counters while the ledger mode is active. Slots are loaded lazily
+ * from {@code inventory_items} and every decision is taken against them; committed changes are queued as pending
+ * deltas for {@link InventoryWriteBehind} to persist.
+ * <p>
+ * The ledger assumes it is the only writer of reservation counters, i.e. a single application instance owns
+ * inventory. Changes made to the table by other means are detected through the row version and folded back in.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory.reservation", name = "mode", havingValue = "ledger")
+public class InventoryLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryLedger.class);
+
+    static final String METRICS_MODE = "ledger";
+
+    private final InventoryRepository inventoryRepository;
+    private final Timer lockWaitTimer;
+    private final ConcurrentHashMap<String, LedgerSlot> slots = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    public InventoryLedger(InventoryRepository inventoryRepository, OrderMetrics orderMetrics) {
+        this.inventoryRepository = inventoryRepository;
+        this.lockWaitTimer = orderMetrics.lockWait(METRICS_MODE);
+    }
+
+    /**
+     * Applies {@code operation} to every product in {@code quantities}, all or nothing. Slot locks are taken in
+     * product-code order, mirroring the database path, so concurrent multi-product calls cannot deadlock.
+     *
+     * @return the deltas that were applied, keyed by product code
+     */
+    Map<String, LedgerDelta> apply(SortedMap<String, Integer> quantities, LedgerOperation operation) {
+        return apply(quantities, operation, true);
+    }
+
+    /**
+     * Reserves {@code quantities} without checking availability, for reservations that were already granted before a
+     * restart and must be held again.
+     */
+    Map<String, LedgerDelta> restore(SortedMap<String, Integer> quantities) {
+        return apply(quantities, LedgerOperation.RESERVE, false);
+    }
+
+    private Map<String, LedgerDelta> apply(SortedMap<String, Integer> quantities, LedgerOperation operation, boolean checked) {
+        List<LedgerSlot> locked = new ArrayList<>(quantities.size());
+        try {
+            long lockStartedAt = System.nanoTime();
+            for (String productCode : quantities.keySet()) {
+                LedgerSlot slot = slot(productCode);
+                slot.lock.lock();
+                locked.add(slot);
+            }
+            lockWaitTimer.record(System.nanoTime() - lockStartedAt, TimeUnit.NANOSECONDS);
+            int index = 0;
+            for (Integer quantity : quantities.values()) {
+                if (checked) {
+                    locked.get(index).check(operation, quantity);
+                } else if (quantity <= 0) {
+                    throw new IllegalArgumentException("Quantity must be positive");
+                }
+                index++;
+            }
+            Map<String, LedgerDelta> deltas = new LinkedHashMap<>();
+            index = 0;
+            for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+                LedgerDelta delta = LedgerDelta.of(operation, entry.getValue());
+                locked.get(index++).apply(delta);
+                deltas.put(entry.getKey(), delta);
+            }
+            return deltas;
+        } finally {
+            locked.forEach(slot -> slot.lock.unlock());
+        }
+    }
+
+    /**
+     * Undoes deltas whose surrounding transaction rolled back.
+     */
+    void revert(Map<String, LedgerDelta> deltas) {
+        deltas.forEach((productCode, delta) -> withSlot(productCode, slot -> slot.revert(delta)));
+    }
+
+    /**
+     * Queues deltas whose surrounding transaction committed for write-behind.
+     */
+    void markPending(Map<String, LedgerDelta> deltas) {
+        deltas.forEach((productCode, delta) -> withSlot(productCode, slot -> slot.commit(delta)));
+        dirty.addAll(deltas.keySet());
+    }
+
+    /**
+     * Takes deltas out of flight once their transaction has written them to {@code inventory_items} itself.
+     */
+    void settle(Map<String, LedgerDelta> deltas) {
+        deltas.forEach((productCode, delta) -> withSlot(productCode, slot -> slot.settle(delta)));
+    }
+
+    List<LedgerWrite> drainPending() {
+        List<LedgerWrite> writes = new ArrayList<>();
+        for (String productCode : List.copyOf(dirty)) {
+            dirty.remove(productCode);
+            LedgerSlot slot = slots.get(productCode);
+            slot.lock.lock();
+            try {
+                if (slot.hasPending()) {
+                    writes.add(slot.drainPending());
+                }
+            } finally {
+                slot.lock.unlock();
+            }
+        }
+        return writes;
+    }
+
+    /**
+     * Puts back writes that could not be flushed so that the next flush retries them.
+     */
+    void restorePending(List<LedgerWrite> writes) {
+        for (LedgerWrite write : writes) {
+            withSlot(write.productCode(), slot -> slot.addPending(new LedgerDelta(write.stockOnHandDelta(), write.reservedQuantityDelta())));
+            dirty.add(write.productCode());
+        }
+    }
+
+    void reconcile(LedgerWrite write, int stockOnHand, int reservedQuantity, long version) {
+        withSlot(write.productCode(), slot -> {
+            if (slot.reconcile(write.baseVersion() + 1, stockOnHand, reservedQuantity, version)) {
+                log.warn("Inventory row for product {} changed outside the ledger; rebased on version {}", write.productCode(), version);
+            }
+        });
+    }
+
+    private void withSlot(String productCode, Consumer<LedgerSlot> action) {
+        LedgerSlot slot = slot(productCode);
+        slot.lock.lock();
+        try {
+            action.accept(slot);
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    private LedgerSlot slot(String productCode) {
+        LedgerSlot slot = slots.get(productCode);
+        if (slot != null) {
+            return slot;
+        }
+        InventoryItem item = inventoryRepository.findByProductCode(productCode)
+            .orElseThrow(() -> new ResourceNotFoundException("Inventory not found for product %s".formatted(productCode)));
+        LedgerSlot loaded = new LedgerSlot(productCode, item.getStockOnHand(), item.getReservedQuantity(), item.getVersion());
+        LedgerSlot existing = slots.putIfAbsent(productCode, loaded);
+        return existing != null ? existing : loaded;
+    }
+}
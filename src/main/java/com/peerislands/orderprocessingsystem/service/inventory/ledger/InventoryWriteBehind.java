@@ -0,0 +1,154 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+import com.peerislands.orderprocessingsystem.config.InventoryLedgerProperties;
+import com.peerislands.orderprocessingsystem.service.event.InventoryChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Persists committed ledger deltas to {@code inventory_items}. Deltas are coalesced per product between flushes and
+ * written as relative updates in JDBC batches, then the affected rows are read back so that the ledger can compare
+ * versions and detect changes made outside of it. Each batch publishes an {@link InventoryChangedEvent} so that
+ * readers of {@code inventory_items} see the flushed rows.
+ */
+@Component
+@ConditionalOnProperty(prefix = "inventory.reservation", name = "mode", havingValue = "ledger")
+public class InventoryWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryWriteBehind.class);
+
+    private static final String UPDATE_SQL = """
+        update inventory_items
+           set stock_on_hand = stock_on_hand + :stockDelta,
+               reserved_quantity = reserved_quantity + :reservedDelta,
+               version = version + 1
+         where product_code = :productCode
+        """;
+    private static final String RESERVE_SQL = """
+        update inventory_items
+           set reserved_quantity = reserved_quantity + :quantity,
+               version = version + 1
+         where product_code = :productCode
+        """;
+    private static final String SELECT_SQL = """
+        select product_code, stock_on_hand, reserved_quantity, version
+          from inventory_items
+         where product_code in (:productCodes)
+        """;
+
+    private final InventoryLedger ledger;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryLedgerProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InventoryWriteBehind(
+        InventoryLedger ledger,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        InventoryLedgerProperties properties,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.ledger = ledger;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval-ms:200}")
+    public synchronized void flush() {
+        List<LedgerWrite> writes = ledger.drainPending();
+        for (int from = 0; from < writes.size(); from += properties.flushBatchSize()) {
+            List<LedgerWrite> batch = writes.subList(from, Math.min(writes.size(), from + properties.flushBatchSize()));
+            try {
+                List<InventoryRow> rows = transactionTemplate.execute(status -> write(batch));
+                reconcile(batch, rows);
+            } catch (DataAccessException | TransactionException ex) {
+                log.warn("Inventory write-behind failed for {} product(s); will retry", batch.size(), ex);
+                ledger.restorePending(writes.subList(from, writes.size()));
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Runs {@code action} while no flush is in progress. Callers that write reservations themselves through
+     * {@link #writeReservations} settle them in the ledger when their transaction commits; holding off flushes until
+     * then keeps a flush from reading the row in between and counting the reservation twice.
+     */
+    public synchronized <T> T exclusive(Supplier<T> action) {
+        return action.get();
+    }
+
+    /**
+     * Adds {@code quantities} to the reserved counters in the caller's transaction, one relative update per product.
+     */
+    void writeReservations(SortedMap<String, Integer> quantities) {
+        MapSqlParameterSource[] parameters = quantities.entrySet().stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("quantity", entry.getValue())
+                .addValue("productCode", entry.getKey()))
+            .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RESERVE_SQL, parameters);
+        eventPublisher.publishEvent(new InventoryChangedEvent(Set.copyOf(quantities.keySet())));
+    }
+
+    private List<InventoryRow> write(List<LedgerWrite> batch) {
+        MapSqlParameterSource[] parameters = batch.stream()
+            .map(write -> new MapSqlParameterSource()
+                .addValue("stockDelta", write.stockOnHandDelta())
+                .addValue("reservedDelta", write.reservedQuantityDelta())
+                .addValue("productCode", write.productCode()))
+            .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_SQL, parameters);
+        List<String> productCodes = batch.stream().map(LedgerWrite::productCode).toList();
+        eventPublisher.publishEvent(new InventoryChangedEvent(Set.copyOf(productCodes)));
+        return jdbcTemplate.query(
+            SELECT_SQL,
+            new MapSqlParameterSource("productCodes", productCodes),
+            (rs, rowNum) -> new InventoryRow(
+                rs.getString("product_code"),
+                rs.getInt("stock_on_hand"),
+                rs.getInt("reserved_quantity"),
+                rs.getLong("version")
+            )
+        );
+    }
+
+    private void reconcile(List<LedgerWrite> batch, List<InventoryRow> rows) {
+        Map<String, InventoryRow> byProductCode = rows.stream()
+            .collect(Collectors.toMap(InventoryRow::productCode, Function.identity()));
+        for (LedgerWrite write : batch) {
+            InventoryRow row = byProductCode.get(write.productCode());
+            if (row != null) {
+                ledger.reconcile(write, row.stockOnHand(), row.reservedQuantity(), row.version());
+            }
+        }
+    }
+
+    private record InventoryRow(String productCode, int stockOnHand, int reservedQuantity, long version) {
+    }
+}
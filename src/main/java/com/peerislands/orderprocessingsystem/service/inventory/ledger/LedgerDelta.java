@@ -0,0 +1,15 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+/**
+ * Change applied to a single product's counters.
+ */
+record LedgerDelta(int stockOnHand, int reservedQuantity) {
+
+    static LedgerDelta of(LedgerOperation operation, int quantity) {
+        return switch (operation) {
+            case RESERVE -> new LedgerDelta(0, quantity);
+            case RELEASE -> new LedgerDelta(0, -quantity);
+            case COMMIT -> new LedgerDelta(-quantity, -quantity);
+        };
+    }
+}
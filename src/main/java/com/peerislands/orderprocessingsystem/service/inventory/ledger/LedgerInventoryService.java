@@ -0,0 +1,211 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+import com.peerislands.orderprocessingsystem.domain.exception.InsufficientInventoryException;
+import com.peerislands.orderprocessingsystem.domain.exception.ResourceNotFoundException;
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.service.inventory.InventoryService;
+import com.peerislands.orderprocessingsystem.service.inventory.ReservationOutcome;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link InventoryService} that decides reservations against {@link InventoryLedger} instead of locking
+ * {@code inventory_items} rows. Deltas become visible to write-behind only once the caller's transaction commits and
+ * are undone in memory if it rolls back, so the ledger never persists the effects of a failed order.
+ */
+@Service
+@ConditionalOnProperty(prefix = "inventory.reservation", name = "mode", havingValue = "ledger")
+public class LedgerInventoryService implements InventoryService {
+
+    private final InventoryLedger ledger;
+    private final InventoryWriteBehind writeBehind;
+    private final OrderMetrics orderMetrics;
+    private final Timer reservationTimer;
+
+    public LedgerInventoryService(InventoryLedger ledger, InventoryWriteBehind writeBehind, OrderMetrics orderMetrics) {
+        this.ledger = ledger;
+        this.writeBehind = writeBehind;
+        this.orderMetrics = orderMetrics;
+        this.reservationTimer = orderMetrics.reservation(InventoryLedger.METRICS_MODE);
+    }
+
+    @Override
+    public void reserveItems(List<CreateOrderItemCommand> items) {
+        reservationTimer.record(() -> {
+            try {
+                apply(mergeQuantities(items, CreateOrderItemCommand::productCode, CreateOrderItemCommand::quantity), LedgerOperation.RESERVE);
+            } catch (InsufficientInventoryException ex) {
+                orderMetrics.insufficientInventory();
+                throw ex;
+            }
+        });
+    }
+
+    @Override
+    public List<ReservationOutcome> reserveEach(List<List<CreateOrderItemCommand>> orders) {
+        // Ledger reservations are already all or nothing per call and never touch the database, so a batch is just
+        // a sequence of them.
+        List<ReservationOutcome> outcomes = new ArrayList<>(orders.size());
+        for (List<CreateOrderItemCommand> items : orders) {
+            try {
+                reserveItems(items);
+                outcomes.add(ReservationOutcome.reserved());
+            } catch (InsufficientInventoryException | ResourceNotFoundException ex) {
+                outcomes.add(ReservationOutcome.rejected(ex.getMessage()));
+            }
+        }
+        return outcomes;
+    }
+
+    @Override
+    public void releaseReservations(Order order) {
+        apply(mergeQuantities(order.getItems(), OrderItem::getProductCode, OrderItem::getQuantity), LedgerOperation.RELEASE);
+    }
+
+    @Override
+    public void commitReservations(Order order) {
+        apply(mergeQuantities(order.getItems(), OrderItem::getProductCode, OrderItem::getQuantity), LedgerOperation.COMMIT);
+    }
+
+    @Override
+    public void commitQuantities(Map<String, Integer> quantitiesByProductCode) {
+        apply(new TreeMap<>(quantitiesByProductCode), LedgerOperation.COMMIT);
+    }
+
+    @Override
+    public void releaseQuantities(Map<String, Integer> quantitiesByProductCode) {
+        apply(new TreeMap<>(quantitiesByProductCode), LedgerOperation.RELEASE);
+    }
+
+    /**
+     * Reserves stock for an order acknowledged through the order journal. The reservation is held in memory only and
+     * is never written behind; {@link #persistJournaled} writes it in the same transaction that inserts the order, so
+     * a crash before then loses neither the order nor its reservation, which {@link #restoreJournaled} holds again.
+     */
+    public void holdJournaled(List<CreateOrderItemCommand> items) {
+        reservationTimer.record(() -> {
+            try {
+                ledger.apply(mergeQuantities(items, CreateOrderItemCommand::productCode, CreateOrderItemCommand::quantity), LedgerOperation.RESERVE);
+            } catch (InsufficientInventoryException ex) {
+                orderMetrics.insufficientInventory();
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * Holds the reservation of a journaled order replayed after a restart. The order was already accepted, so the
+     * hold is not checked against availability.
+     */
+    public void restoreJournaled(List<CreateOrderItemCommand> items) {
+        ledger.restore(mergeQuantities(items, CreateOrderItemCommand::productCode, CreateOrderItemCommand::quantity));
+    }
+
+    /**
+     * Writes the held reservations of journaled orders inserted by the current transaction to {@code inventory_items}
+     * and releases the holds once it commits. If it rolls back the holds stay, ready for the retry. Must run inside
+     * {@link #withoutWriteBehind}.
+     */
+    public void persistJournaled(List<List<CreateOrderItemCommand>> orders) {
+        SortedMap<String, Integer> quantities = mergeQuantities(
+            orders.stream().flatMap(List::stream).toList(),
+            CreateOrderItemCommand::productCode,
+            CreateOrderItemCommand::quantity
+        );
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Map<String, LedgerDelta> deltas = deltas(quantities);
+        writeBehind.writeReservations(quantities);
+        afterCommit(() -> ledger.settle(deltas));
+    }
+
+    /**
+     * Drops the held reservation of a journaled order that is not inserted, because the append failed or the order
+     * was already applied before a restart. Inside a transaction the hold is dropped when it commits.
+     */
+    public void discardJournaled(List<CreateOrderItemCommand> items) {
+        SortedMap<String, Integer> quantities = mergeQuantities(items, CreateOrderItemCommand::productCode, CreateOrderItemCommand::quantity);
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Map<String, LedgerDelta> deltas = deltas(quantities);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ledger.revert(deltas);
+            return;
+        }
+        afterCommit(() -> ledger.revert(deltas));
+    }
+
+    /**
+     * Runs {@code action}, including the commit of any transaction it starts, while write-behind is held off.
+     */
+    public <T> T withoutWriteBehind(Supplier<T> action) {
+        return writeBehind.exclusive(action);
+    }
+
+    private void apply(SortedMap<String, Integer> quantities, LedgerOperation operation) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Map<String, LedgerDelta> deltas = ledger.apply(quantities, operation);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ledger.markPending(deltas);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    ledger.markPending(deltas);
+                } else {
+                    ledger.revert(deltas);
+                }
+            }
+        });
+    }
+
+    private static Map<String, LedgerDelta> deltas(SortedMap<String, Integer> quantities) {
+        Map<String, LedgerDelta> deltas = new LinkedHashMap<>();
+        quantities.forEach((productCode, quantity) -> deltas.put(productCode, LedgerDelta.of(LedgerOperation.RESERVE, quantity)));
+        return deltas;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Journaled reservations must be persisted inside a transaction");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static <T> SortedMap<String, Integer> mergeQuantities(
+        List<T> lines,
+        Function<T, String> productCode,
+        Function<T, Integer> quantity
+    ) {
+        SortedMap<String, Integer> merged = new TreeMap<>();
+        for (T line : lines) {
+            merged.merge(productCode.apply(line), quantity.apply(line), Integer::sum);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,11 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+/**
+ * Inventory mutations supported by the ledger. Each mirrors the rule of the same name on
+ * {@link com.peerislands.orderprocessingsystem.domain.model.InventoryItem}.
+ */
+enum LedgerOperation {
+    RESERVE,
+    RELEASE,
+    COMMIT
+}
@@ -0,0 +1,9 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+/**
+ * Coalesced, committed delta for one product awaiting write-behind.
+ *
+ * @param baseVersion the row version the ledger last observed before this write
+ */
+record LedgerWrite(String productCode, int stockOnHandDelta, int reservedQuantityDelta, long baseVersion) {
+}
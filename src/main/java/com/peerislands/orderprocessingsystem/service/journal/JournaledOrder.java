@@ -0,0 +1,20 @@
+package com.peerislands.orderprocessingsystem.service.journal;
+
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * An accepted order as recorded in the {@link OrderJournal}, before it is inserted into the database.
+ *
+ * @param reservedUntil when the order's reservations expire if it is still pending; {@code null} when they do not
+ */
+public record JournaledOrder(
+    String orderNumber,
+    String customerName,
+    String customerEmail,
+    String shippingAddress,
+    Instant reservedUntil,
+    List<CreateOrderItemCommand> items
+) {
+}
@@ -0,0 +1,92 @@
+package com.peerislands.orderprocessingsystem.service.journal;
+
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding of an order and its items for the {@link OrderJournal}: modified UTF-8 strings, the
+ * reservation deadline as epoch seconds and nanos, and unit prices as scale plus unscaled two's-complement bytes.
+ * The leading version byte allows the format to evolve while old segments are still being replayed.
+ */
+public final class JournaledOrderCodec {
+
+    private static final byte VERSION = 1;
+
+    private JournaledOrderCodec() {
+    }
+
+    public static byte[] encode(Order order) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(order.getOrderNumber());
+            out.writeUTF(order.getCustomerName());
+            out.writeUTF(order.getCustomerEmail());
+            out.writeUTF(order.getShippingAddress());
+            Instant reservedUntil = order.getReservedUntil();
+            out.writeBoolean(reservedUntil != null);
+            if (reservedUntil != null) {
+                out.writeLong(reservedUntil.getEpochSecond());
+                out.writeInt(reservedUntil.getNano());
+            }
+            out.writeInt(order.getItems().size());
+            for (OrderItem item : order.getItems()) {
+                out.writeUTF(item.getProductCode());
+                out.writeUTF(item.getProductName());
+                out.writeInt(item.getQuantity());
+                writeDecimal(out, item.getUnitPrice());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static JournaledOrder decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported journal record version " + version);
+            }
+            String orderNumber = in.readUTF();
+            String customerName = in.readUTF();
+            String customerEmail = in.readUTF();
+            String shippingAddress = in.readUTF();
+            Instant reservedUntil = in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+            int itemCount = in.readInt();
+            List<CreateOrderItemCommand> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(new CreateOrderItemCommand(in.readUTF(), in.readUTF(), in.readInt(), readDecimal(in)));
+            }
+            return new JournaledOrder(orderNumber, customerName, customerEmail, shippingAddress, reservedUntil, items);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedByte()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+}
@@ -0,0 +1,318 @@
+package com.peerislands.orderprocessingsystem.service.journal;
+
+import io.micrometer.core.instrument.Timer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal in fixed-size, memory-mapped segment files. Each record is stored as
+ * {@code length | CRC32C | payload}; a segment that cannot hold the next record is closed with a roll marker and the
+ * record goes to the next one. Positions are global byte offsets, {@code segmentIndex * segmentSize + offset}.
+ * <p>
+ * {@link #append} returns once the record has been forced to disk. Concurrent appenders share forces: whoever forces
+ * covers every record written so far, so under load one {@code msync} acknowledges many records. A checksum mismatch
+ * marks the end of the log on startup, so a record torn by a crash is discarded rather than replayed.
+ * <p>
+ * {@link #checkpoint} records how far a consumer has applied the journal and deletes segments that lie wholly before
+ * that position.
+ */
+public final class OrderJournal implements Closeable {
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int ROLL_MARKER = -1;
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int CHECKPOINT_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Timer forceTimer;
+    private final ConcurrentSkipListMap<Long, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+    private final FileChannel checkpointChannel;
+    private final Object forceLock = new Object();
+
+    // Guarded by this.
+    private long writeSegment;
+    private int writeOffset;
+    private boolean closed;
+
+    private volatile long writePosition;
+    private volatile long durablePosition;
+    private volatile long appliedPosition;
+
+    public OrderJournal(Path directory, int segmentSize, Timer forceTimer) throws IOException {
+        if (segmentSize < 64) {
+            throw new IllegalArgumentException("Journal segments must be at least 64 bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceTimer = forceTimer;
+        Files.createDirectories(directory);
+        this.checkpointChannel = FileChannel.open(
+            directory.resolve(CHECKPOINT_FILE),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        recover();
+    }
+
+    /**
+     * Appends one record and forces it to disk.
+     *
+     * @return the position just after the record
+     */
+    public long append(byte[] payload) {
+        if (payload.length == 0 || HEADER_BYTES + payload.length + Integer.BYTES > segmentSize) {
+            throw new IllegalArgumentException("Journal record of %d bytes does not fit a segment".formatted(payload.length));
+        }
+        long end;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Order journal is closed");
+            }
+            if (writeOffset + HEADER_BYTES + payload.length + Integer.BYTES > segmentSize) {
+                roll();
+            }
+            MappedByteBuffer segment = segments.get(writeSegment);
+            segment.putInt(writeOffset + Integer.BYTES, checksum(payload));
+            segment.put(writeOffset + HEADER_BYTES, payload);
+            segment.putInt(writeOffset, payload.length);
+            writeOffset += HEADER_BYTES + payload.length;
+            end = writeSegment * segmentSize + writeOffset;
+            writePosition = end;
+        }
+        force(end);
+        return end;
+    }
+
+    /**
+     * Reads up to {@code maxEntries} durable records starting at {@code from}.
+     */
+    public List<JournalEntry> read(long from, int maxEntries) {
+        List<JournalEntry> entries = new ArrayList<>();
+        long position = from;
+        long end = durablePosition;
+        while (entries.size() < maxEntries && position < end) {
+            MappedByteBuffer segment = segments.get(position / segmentSize);
+            if (segment == null) {
+                throw new IllegalStateException("Journal segment for position %d is missing".formatted(position));
+            }
+            int offset = (int) (position % segmentSize);
+            int length = segment.getInt(offset);
+            if (length == ROLL_MARKER) {
+                position = nextSegmentStart(position);
+                continue;
+            }
+            byte[] payload = new byte[length];
+            segment.get(offset + HEADER_BYTES, payload);
+            if (checksum(payload) != segment.getInt(offset + Integer.BYTES)) {
+                throw new IllegalStateException("Journal record at position %d is corrupt".formatted(position));
+            }
+            long next = position + HEADER_BYTES + length;
+            entries.add(new JournalEntry(position, next, payload));
+            position = next;
+        }
+        return entries;
+    }
+
+    /**
+     * Records that everything before {@code position} has been applied and deletes the segments wholly before it.
+     */
+    public void checkpoint(long position) {
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKPOINT_BYTES);
+        buffer.putLong(position).putInt(checksum(ByteBuffer.allocate(Long.BYTES).putLong(position).array())).flip();
+        try {
+            synchronized (checkpointChannel) {
+                checkpointChannel.write(buffer, 0);
+                checkpointChannel.force(false);
+            }
+            appliedPosition = position;
+            for (Long index : segments.headMap(position / segmentSize).keySet()) {
+                segments.remove(index);
+                Files.deleteIfExists(segmentPath(index));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write journal checkpoint", ex);
+        }
+    }
+
+    public long appliedPosition() {
+        return appliedPosition;
+    }
+
+    public long durablePosition() {
+        return durablePosition;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Appends already past the closed check may still be forcing; let them finish before unmapping.
+        synchronized (forceLock) {
+            segments.values().forEach(MappedByteBuffer::force);
+            segments.clear();
+        }
+        checkpointChannel.close();
+    }
+
+    private void force(long upTo) {
+        synchronized (forceLock) {
+            long from = durablePosition;
+            if (from >= upTo) {
+                // A concurrent append already forced past this record.
+                return;
+            }
+            long target = writePosition;
+            long startedAt = System.nanoTime();
+            for (long index = from / segmentSize; index <= target / segmentSize; index++) {
+                MappedByteBuffer segment = segments.get(index);
+                if (segment == null) {
+                    if (closed) {
+                        throw new IllegalStateException("Order journal is closed");
+                    }
+                    // Applied and deleted by a checkpoint, which only happens to durable records.
+                    continue;
+                }
+                int start = index == from / segmentSize ? (int) (from % segmentSize) : 0;
+                int end = index == target / segmentSize ? (int) (target % segmentSize) : segmentSize;
+                if (end > start) {
+                    segment.force(start, end - start);
+                }
+            }
+            forceTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            durablePosition = target;
+        }
+    }
+
+    private void roll() {
+        segments.get(writeSegment).putInt(writeOffset, ROLL_MARKER);
+        writeSegment++;
+        writeOffset = 0;
+        segments.put(writeSegment, map(writeSegment));
+    }
+
+    private void recover() throws IOException {
+        long checkpoint = readCheckpoint();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                .forEach(index -> segments.put(index, map(index)));
+        }
+        if (segments.isEmpty()) {
+            segments.put(checkpoint / segmentSize, map(checkpoint / segmentSize));
+        }
+        long applied = Math.max(checkpoint, segments.firstKey() * segmentSize);
+        for (Long index : segments.headMap(applied / segmentSize).keySet()) {
+            segments.remove(index);
+            Files.deleteIfExists(segmentPath(index));
+        }
+
+        long end = scan(applied);
+        writeSegment = end / segmentSize;
+        writeOffset = (int) (end % segmentSize);
+        segments.computeIfAbsent(writeSegment, this::map);
+        // Anything after the last valid record is a torn write or a segment rolled into but never written.
+        for (Long index : segments.tailMap(writeSegment, false).keySet()) {
+            segments.remove(index);
+            Files.deleteIfExists(segmentPath(index));
+        }
+        MappedByteBuffer segment = segments.get(writeSegment);
+        segment.put(writeOffset, new byte[segmentSize - writeOffset]);
+        segment.force();
+
+        appliedPosition = applied;
+        writePosition = end;
+        durablePosition = end;
+    }
+
+    /**
+     * Walks valid records from {@code position} and returns the position after the last one.
+     */
+    private long scan(long position) {
+        while (true) {
+            MappedByteBuffer segment = segments.get(position / segmentSize);
+            if (segment == null) {
+                return position;
+            }
+            int offset = (int) (position % segmentSize);
+            int length = segment.getInt(offset);
+            if (length == ROLL_MARKER && segments.containsKey(position / segmentSize + 1)) {
+                position = nextSegmentStart(position);
+                continue;
+            }
+            if (length <= 0 || offset + HEADER_BYTES + length + Integer.BYTES > segmentSize) {
+                return position;
+            }
+            byte[] payload = new byte[length];
+            segment.get(offset + HEADER_BYTES, payload);
+            if (checksum(payload) != segment.getInt(offset + Integer.BYTES)) {
+                return position;
+            }
+            position += HEADER_BYTES + length;
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKPOINT_BYTES);
+        if (checkpointChannel.read(buffer, 0) < CHECKPOINT_BYTES) {
+            return 0;
+        }
+        buffer.flip();
+        long position = buffer.getLong();
+        int expected = checksum(ByteBuffer.allocate(Long.BYTES).putLong(position).array());
+        // A torn checkpoint only means replaying more; replay is idempotent.
+        return buffer.getInt() == expected ? position : 0;
+    }
+
+    private long nextSegmentStart(long position) {
+        return (position / segmentSize + 1) * segmentSize;
+    }
+
+    private MappedByteBuffer map(long index) {
+        try (FileChannel channel = FileChannel.open(
+            segmentPath(index),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot map journal segment " + index, ex);
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve("%020d%s".formatted(index, SEGMENT_SUFFIX));
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * @param position     where the record starts
+     * @param nextPosition where the following record starts; pass it to {@link #checkpoint} once applied
+     */
+    public record JournalEntry(long position, long nextPosition, byte[] payload) {
+    }
+}
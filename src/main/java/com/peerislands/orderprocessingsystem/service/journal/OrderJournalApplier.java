@@ -0,0 +1,229 @@
+package com.peerislands.orderprocessingsystem.service.journal;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderJournalProperties;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.inventory.ledger.LedgerInventoryService;
+import com.peerislands.orderprocessingsystem.service.util.OrderNumberGenerator;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replays the {@link OrderJournal} into the database. A single thread reads journaled orders from the applied
+ * checkpoint in batches of {@code orders.journal.apply-batch-size}, inserts each batch in one transaction and then
+ * advances the checkpoint, which deletes fully applied segments.
+ * <p>
+ * Reservations of journaled orders are held in the inventory ledger until their batch writes them together with the
+ * orders. On startup the applier holds the reservations of records the previous run left unapplied again and applies
+ * them before the web server starts; on shutdown it applies whatever is left before the journal is closed. Inserts
+ * skip order numbers that already exist, so replaying records applied just before a crash, whose checkpoint was not
+ * yet written, creates nothing twice.
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders.journal", name = "enabled", havingValue = "true")
+public class OrderJournalApplier implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderJournalApplier.class);
+
+    private final OrderJournal journal;
+    private final OrderService orderService;
+    private final OrderJournalProperties properties;
+    private final BackgroundTaskExecutors backgroundTaskExecutors;
+    private final LedgerInventoryService ledgerInventoryService;
+    private final Object progress = new Object();
+    // Serialises batches; separate from the lifecycle monitor so stop() can wait for the worker without holding it.
+    private final Object applyLock = new Object();
+    private volatile Thread worker;
+    private boolean recovered;
+
+    public OrderJournalApplier(
+        OrderJournal journal,
+        OrderService orderService,
+        OrderJournalProperties properties,
+        BackgroundTaskExecutors backgroundTaskExecutors,
+        OrderNumberGenerator orderNumberGenerator,
+        ObjectProvider<LedgerInventoryService> ledgerInventoryService,
+        Environment environment
+    ) {
+        // Journaled orders are acknowledged before they reach the database, so neither their stock nor their order
+        // number may depend on it.
+        if (!"ledger".equals(environment.getProperty("inventory.reservation.mode"))) {
+            throw new IllegalStateException("orders.journal.enabled requires inventory.reservation.mode=ledger");
+        }
+        if (!orderNumberGenerator.isUniqueByConstruction()) {
+            throw new IllegalStateException("orders.journal.enabled requires orders.number.strategy=sequence");
+        }
+        this.journal = journal;
+        this.orderService = orderService;
+        this.properties = properties;
+        this.backgroundTaskExecutors = backgroundTaskExecutors;
+        this.ledgerInventoryService = ledgerInventoryService.getObject();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        if (!recovered) {
+            recover();
+            recovered = true;
+        }
+        Thread thread = backgroundTaskExecutors.threadFactory("order-journal-applier-").newThread(this::run);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            thread = worker;
+            worker = null;
+        }
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        while (applyNextBatch() > 0) {
+            // Drain what was acknowledged during shutdown.
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    /**
+     * Starts before and stops after the web server, so orders acknowledged during graceful shutdown are applied.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Inserts the next batch of journaled orders and advances the checkpoint past it. Write-behind is held off until
+     * the batch has committed and its reservations have left the ledger's holds.
+     *
+     * @return number of journal records consumed
+     */
+    public int applyNextBatch() {
+        synchronized (applyLock) {
+            return applyBatch();
+        }
+    }
+
+    /**
+     * Applies the next batch on behalf of the worker thread, unless the applier was stopped in the meantime; the
+     * batches left are then drained by {@link #stop()}.
+     */
+    private int applyNextBatchAsWorker() {
+        synchronized (applyLock) {
+            if (worker != Thread.currentThread()) {
+                return 0;
+            }
+            return applyBatch();
+        }
+    }
+
+    private int applyBatch() {
+        List<OrderJournal.JournalEntry> entries = journal.read(journal.appliedPosition(), properties.applyBatchSize());
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        List<JournaledOrder> orders = entries.stream().map(entry -> JournaledOrderCodec.decode(entry.payload())).toList();
+        int inserted = ledgerInventoryService.withoutWriteBehind(() -> orderService.applyJournaledOrders(orders));
+        journal.checkpoint(entries.get(entries.size() - 1).nextPosition());
+        synchronized (progress) {
+            progress.notifyAll();
+        }
+        log.debug("Applied {} journaled order(s), {} new", entries.size(), inserted);
+        return entries.size();
+    }
+
+    /**
+     * Waits until every order acknowledged so far has been applied, so that a lookup which missed an order that was
+     * only journaled can try again.
+     *
+     * @return whether the applier caught up within {@code timeout}
+     */
+    public boolean awaitCaughtUp(Duration timeout) {
+        long target = journal.durablePosition();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (progress) {
+            while (journal.appliedPosition() < target) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(progress, remaining);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Holds the reservations of records left unapplied by the previous run again, then applies them. Their holds
+     * only lived in memory, so without this the orders would be inserted with no stock reserved for them.
+     */
+    private void recover() {
+        long position = journal.appliedPosition();
+        int restored = 0;
+        List<OrderJournal.JournalEntry> entries = journal.read(position, properties.applyBatchSize());
+        while (!entries.isEmpty()) {
+            for (OrderJournal.JournalEntry entry : entries) {
+                ledgerInventoryService.restoreJournaled(JournaledOrderCodec.decode(entry.payload()).items());
+            }
+            restored += entries.size();
+            position = entries.get(entries.size() - 1).nextPosition();
+            entries = journal.read(position, properties.applyBatchSize());
+        }
+        if (restored == 0) {
+            return;
+        }
+        log.info("Recovering {} journaled order(s) that were not applied before the last shutdown", restored);
+        while (applyNextBatch() > 0) {
+            // Apply them before the web server accepts requests for them.
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (applyNextBatchAsWorker() == 0) {
+                    Thread.sleep(properties.applyIntervalMs());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                log.warn("Applying the order journal failed; retrying from position {}", journal.appliedPosition(), ex);
+                try {
+                    Thread.sleep(properties.applyIntervalMs());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
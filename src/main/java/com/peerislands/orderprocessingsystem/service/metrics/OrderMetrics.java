@@ -0,0 +1,148 @@
+package com.peerislands.orderprocessingsystem.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Meters for the order pipeline's hot paths. Timers publish percentile histograms so that p99 can be computed per
+ * operation on the Prometheus side; meter names are defined here only.
+ */
+@Component
+public class OrderMetrics {
+
+    private static final String OPERATION_TIMER = "orders.operation";
+
+    private final MeterRegistry registry;
+    private final Counter insufficientInventory;
+    private final Counter orderNumberCollisions;
+    private final Timer promotionRun;
+    private final DistributionSummary promotionChunkSize;
+    private final Counter ordersPromoted;
+    private final Counter reservationsExpired;
+    private final DistributionSummary intakeBatchSize;
+    private final Timer journalForce;
+
+    public OrderMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.insufficientInventory = Counter.builder("inventory.insufficient")
+            .description("Reservations refused because a product did not have enough available stock")
+            .register(registry);
+        this.orderNumberCollisions = Counter.builder("orders.number.collisions")
+            .description("Generated order numbers that were already taken and had to be regenerated")
+            .register(registry);
+        this.promotionRun = Timer.builder("orders.promotion.run")
+            .description("Duration of a full promotion run across all partitions")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.promotionChunkSize = DistributionSummary.builder("orders.promotion.chunk.size")
+            .description("Orders promoted per chunk transaction")
+            .baseUnit("orders")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.ordersPromoted = Counter.builder("orders.promotion.promoted")
+            .description("Orders moved from PENDING to PROCESSING")
+            .register(registry);
+        this.reservationsExpired = Counter.builder("orders.reservation.expired")
+            .description("Pending orders cancelled because their reservation deadline passed")
+            .register(registry);
+        this.intakeBatchSize = DistributionSummary.builder("orders.intake.batch.size")
+            .description("Orders committed per group-commit intake transaction")
+            .baseUnit("orders")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.journalForce = Timer.builder("orders.journal.force")
+            .description("Time to force appended order journal records to disk")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * Times the calling order operation from now until its transaction completes, so that the flush and commit are
+     * included. The outcome tag tells committed from rolled back calls. Does nothing outside a transaction.
+     */
+    public void timeTransaction(String operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(registry);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                sample.stop(operationTimer(operation, status == STATUS_COMMITTED ? "committed" : "rolled_back"));
+            }
+        });
+    }
+
+    /**
+     * Time spent inside {@code InventoryService.reserveItems}, lock waits included.
+     */
+    public Timer reservation(String mode) {
+        return Timer.builder("inventory.reservation")
+            .description("Time to reserve stock for one order")
+            .tag("mode", mode)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * Time spent waiting for inventory locks: row locks in database mode, slot locks in ledger mode.
+     */
+    public Timer lockWait(String mode) {
+        return Timer.builder("inventory.lock.wait")
+            .description("Time spent acquiring inventory locks")
+            .tag("mode", mode)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    public void insufficientInventory() {
+        insufficientInventory.increment();
+    }
+
+    public void orderNumberCollisions(int count) {
+        orderNumberCollisions.increment(count);
+    }
+
+    public Timer promotionRun() {
+        return promotionRun;
+    }
+
+    public void chunkPromoted(int orders) {
+        promotionChunkSize.record(orders);
+        ordersPromoted.increment(orders);
+    }
+
+    public void reservationsExpired(int orders) {
+        reservationsExpired.increment(orders);
+    }
+
+    public void intakeBatch(int orders) {
+        intakeBatchSize.record(orders);
+    }
+
+    public void intakeQueue(Collection<?> queue) {
+        Gauge.builder("orders.intake.queue.size", queue, Collection::size)
+            .description("Orders waiting for a group-commit intake writer")
+            .register(registry);
+    }
+
+    public Timer journalForce() {
+        return journalForce;
+    }
+
+    private Timer operationTimer(String operation, String outcome) {
+        return Timer.builder(OPERATION_TIMER)
+            .description("Order service operations, from entry to transaction completion")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.peerislands.orderprocessingsystem.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peerislands.orderprocessingsystem.config.OrderOutboxProperties;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends each change as one JSON line to {@code orders.outbox.file-path} and forces the batch to disk before the
+ * relay commits, so a line may be repeated after a crash but is never lost.
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders.outbox", name = "sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOutboxSink(ObjectMapper objectMapper, OrderOutboxProperties properties) {
+        this.objectMapper = objectMapper;
+        this.path = properties.filePath();
+    }
+
+    @Override
+    public synchronized void deliver(List<OrderChangeMessage> messages) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream(messages.size() * 192);
+            for (OrderChangeMessage message : messages) {
+                objectMapper.writeValue(lines, message);
+                lines.write('\n');
+            }
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append order changes to " + path, ex);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.peerislands.orderprocessingsystem.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peerislands.orderprocessingsystem.config.OrderOutboxProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Posts each batch as a JSON array to {@code orders.outbox.http-url}; any non-2xx response fails the batch. The
+ * default URL points at the stand-in receiver under {@code /internal/tools/orders/change-receiver}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders.outbox", name = "sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final OrderOutboxProperties properties;
+    private final HttpClient httpClient;
+
+    public HttpOutboxSink(ObjectMapper objectMapper, OrderOutboxProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(properties.httpTimeout()).build();
+    }
+
+    @Override
+    public void deliver(List<OrderChangeMessage> messages) {
+        HttpRequest request = HttpRequest.newBuilder(properties.httpUrl())
+            .timeout(properties.httpTimeout())
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(serialize(messages)))
+            .build();
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to post order changes to " + properties.httpUrl(), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while posting order changes", ex);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(
+                "Order change receiver %s answered %d".formatted(properties.httpUrl(), response.statusCode())
+            );
+        }
+    }
+
+    private byte[] serialize(List<OrderChangeMessage> messages) {
+        try {
+            return objectMapper.writeValueAsBytes(messages);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize order changes", ex);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.peerislands.orderprocessingsystem.service.outbox;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Republishes each change as an application event so in-process listeners can consume
+ * {@link OrderChangeMessage}s with {@code @EventListener}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders.outbox", name = "sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void deliver(List<OrderChangeMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,27 @@
+package com.peerislands.orderprocessingsystem.service.outbox;
+
+import com.peerislands.orderprocessingsystem.repository.OutboxEventRepository;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read side of the change stream: published changes in sequence order, for consumers that tail incrementally.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderChangeFeed {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OrderChangeFeed(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    public List<OrderChangeMessage> changesAfter(long afterSequence, int limit) {
+        return outboxEventRepository.findPublishedAfter(afterSequence, PageRequest.ofSize(limit)).stream()
+            .map(OrderChangeMessage::of)
+            .toList();
+    }
+}
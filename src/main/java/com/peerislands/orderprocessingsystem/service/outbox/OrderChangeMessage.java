@@ -0,0 +1,36 @@
+package com.peerislands.orderprocessingsystem.service.outbox;
+
+import com.peerislands.orderprocessingsystem.domain.model.OrderChangeType;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.domain.model.OutboxEvent;
+import java.time.Instant;
+
+/**
+ * A published order change as seen by sinks and by consumers tailing {@code GET /api/v1/orders/changes}.
+ * Delivery is at least once: a consumer that has already applied {@code eventId} should ignore it.
+ *
+ * @param sequence position in the change stream; strictly increasing in publication order
+ * @param eventId  stable identifier of the change, unchanged across redeliveries
+ */
+public record OrderChangeMessage(
+    long sequence,
+    long eventId,
+    OrderChangeType type,
+    String orderId,
+    OrderStatus previousStatus,
+    OrderStatus status,
+    Instant occurredAt
+) {
+
+    public static OrderChangeMessage of(OutboxEvent event) {
+        return new OrderChangeMessage(
+            event.getSequence(),
+            event.getId(),
+            event.getType(),
+            event.getOrderNumber(),
+            event.getPreviousStatus(),
+            event.getStatus(),
+            event.getOccurredAt()
+        );
+    }
+}
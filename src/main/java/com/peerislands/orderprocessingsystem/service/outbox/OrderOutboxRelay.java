@@ -0,0 +1,97 @@
+package com.peerislands.orderprocessingsystem.service.outbox;
+
+import com.peerislands.orderprocessingsystem.config.OrderOutboxProperties;
+import com.peerislands.orderprocessingsystem.domain.model.OutboxEvent;
+import com.peerislands.orderprocessingsystem.repository.OutboxEventRepository;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the outbox to the configured {@link OutboxSink}. Each batch is claimed with {@code FOR UPDATE SKIP LOCKED},
+ * numbered after the highest published sequence, delivered, and marked published in one transaction. A failure
+ * anywhere rolls the batch back so it is delivered again: delivery is at least once, in sequence order.
+ */
+@Component
+public class OrderOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderOutboxProperties properties;
+
+    public OrderOutboxRelay(
+        OutboxEventRepository outboxEventRepository,
+        OutboxSink sink,
+        PlatformTransactionManager transactionManager,
+        OrderOutboxProperties properties
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * Relays batches until the outbox is drained or a batch fails.
+     *
+     * @return the number of events delivered
+     */
+    @Scheduled(fixedDelayString = "${orders.outbox.relay-interval-ms:500}")
+    public int relay() {
+        int total = 0;
+        int delivered;
+        do {
+            delivered = relayBatch();
+            total += delivered;
+        } while (delivered == properties.batchSize());
+        return total;
+    }
+
+    @Scheduled(cron = "${orders.outbox.purge-cron:0 15 * * * *}")
+    public void purgePublished() {
+        Integer purged = transactionTemplate.execute(status ->
+            outboxEventRepository.deletePublishedBefore(Instant.now().minus(properties.retention()))
+        );
+        if (purged != null && purged > 0) {
+            log.info("Purged {} published order change(s) older than {}", purged, properties.retention());
+        }
+    }
+
+    private int relayBatch() {
+        try {
+            Integer delivered = transactionTemplate.execute(status -> {
+                List<OutboxEvent> events = outboxEventRepository.claimUnpublished(properties.batchSize());
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                long sequence = outboxEventRepository.findMaxSequence();
+                Instant publishedAt = Instant.now();
+                List<OrderChangeMessage> messages = new ArrayList<>(events.size());
+                for (OutboxEvent event : events) {
+                    event.markPublished(++sequence, publishedAt);
+                    messages.add(OrderChangeMessage.of(event));
+                }
+                // Surface a sequence clash with a concurrent relay before anything leaves the process.
+                outboxEventRepository.flush();
+                sink.deliver(messages);
+                return events.size();
+            });
+            return delivered == null ? 0 : delivered;
+        } catch (DataAccessException | TransactionException | IllegalStateException | UncheckedIOException ex) {
+            log.warn("Order change relay failed, batch will be retried: {}", ex.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.peerislands.orderprocessingsystem.service.outbox;
+
+import com.peerislands.orderprocessingsystem.domain.model.OrderChangeType;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.domain.model.OutboxEvent;
+import com.peerislands.orderprocessingsystem.repository.OutboxEventRepository;
+import com.peerislands.orderprocessingsystem.service.event.OrderCreatedEvent;
+import com.peerislands.orderprocessingsystem.service.event.OrderStatusChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Appends an outbox row for every order lifecycle event. Listens synchronously, so the row is written in the same
+ * transaction as the change and commits or rolls back with it.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class OrderOutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OrderOutboxWriter(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        outboxEventRepository.save(new OutboxEvent(
+            OrderChangeType.CREATED,
+            event.orderId(),
+            event.orderNumber(),
+            null,
+            OrderStatus.PENDING,
+            event.createdAt()
+        ));
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        outboxEventRepository.save(new OutboxEvent(
+            OrderChangeType.STATUS_CHANGED,
+            event.orderId(),
+            event.orderNumber(),
+            event.previousStatus(),
+            event.status(),
+            event.occurredAt()
+        ));
+    }
+}
@@ -0,0 +1,12 @@
+package com.peerislands.orderprocessingsystem.service.outbox;
+
+import java.util.List;
+
+/**
+ * Destination for relayed order changes, selected with {@code orders.outbox.sink}. A sink must throw if it could not
+ * accept the whole batch; the relay then rolls back and delivers the same events again on its next run.
+ */
+public interface OutboxSink {
+
+    void deliver(List<OrderChangeMessage> messages);
+}
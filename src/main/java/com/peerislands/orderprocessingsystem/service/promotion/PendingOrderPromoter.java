@@ -0,0 +1,211 @@
+package com.peerislands.orderprocessingsystem.service.promotion;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderPromotionProperties;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.repository.OrderNumberView;
+import com.peerislands.orderprocessingsystem.repository.OrderRepository;
+import com.peerislands.orderprocessingsystem.repository.ProductQuantity;
+import com.peerislands.orderprocessingsystem.service.event.OrderStatusChangedEvent;
+import com.peerislands.orderprocessingsystem.service.inventory.InventoryService;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Promotes pending orders in bounded chunks, each in its own transaction. A chunk claims the next batch of pending
+ * orders by id, commits their reservations with one aggregated inventory call and flips their status with a single
+ * bulk {@code UPDATE}, so inventory locks are held for one chunk rather than for the whole backlog.
+ * <p>
+ * The id space is split into {@code orders.promotion.workers} partitions ({@code id mod workers}) that are drained in
+ * parallel. Claims use {@code FOR UPDATE SKIP LOCKED}, so overlapping runs, whether the scheduler and the maintenance
+ * endpoint or several application instances, divide the backlog instead of promoting the same orders twice. A chunk
+ * that fails is rolled back and skipped; its orders stay pending for the next run while the partition moves on.
+ */
+@Component
+public class PendingOrderPromoter {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingOrderPromoter.class);
+
+    private final OrderRepository orderRepository;
+    private final InventoryService inventoryService;
+    private final TransactionTemplate chunkTransaction;
+    private final AsyncTaskExecutor promotionExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderPromotionProperties properties;
+    private final OrderMetrics orderMetrics;
+
+    public PendingOrderPromoter(
+        OrderRepository orderRepository,
+        InventoryService inventoryService,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        BackgroundTaskExecutors backgroundTaskExecutors,
+        OrderPromotionProperties properties,
+        OrderMetrics orderMetrics
+    ) {
+        this.orderRepository = orderRepository;
+        this.inventoryService = inventoryService;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.orderMetrics = orderMetrics;
+        this.promotionExecutor = backgroundTaskExecutors.create("promotion-", Math.max(1, properties.workers()));
+    }
+
+    /**
+     * Promotes every order created at or before {@code cutoff} that is pending, and not claimed by a concurrent run,
+     * when its partition reaches it.
+     *
+     * @return number of orders promoted
+     */
+    public int promoteCreatedBefore(Instant cutoff) {
+        return orderMetrics.promotionRun().record(() -> promoteAllPartitions(cutoff));
+    }
+
+    private int promoteAllPartitions(Instant cutoff) {
+        int partitions = Math.max(1, properties.workers());
+        if (partitions == 1) {
+            return promotePartition(cutoff, 0, 1);
+        }
+        List<CompletableFuture<Integer>> workers = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            int current = partition;
+            workers.add(CompletableFuture.supplyAsync(() -> promotePartition(cutoff, current, partitions), promotionExecutor));
+        }
+        try {
+            return workers.stream().mapToInt(CompletableFuture::join).sum();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Promotes the given orders in one transaction, ignoring any that are no longer pending or are being handled by a
+     * concurrent run.
+     *
+     * @return number of orders promoted
+     */
+    public int promoteOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        Integer promoted = chunkTransaction.execute(status -> {
+            List<Long> claimed = orderRepository.claimPendingOrderIdsIn(orderIds);
+            return claimed.isEmpty() ? 0 : promoteClaimed(claimed).ordersPromoted();
+        });
+        if (promoted == null || promoted == 0) {
+            return 0;
+        }
+        orderMetrics.chunkPromoted(promoted);
+        return promoted;
+    }
+
+    private int promotePartition(Instant cutoff, int partition, int partitions) {
+        int promoted = 0;
+        long afterId = 0;
+        for (int sequence = 1; ; sequence++) {
+            long startedAt = System.nanoTime();
+            long from = afterId;
+            List<Long> claimed = new ArrayList<>();
+            ChunkResult result;
+            try {
+                result = chunkTransaction.execute(status -> {
+                    claimed.addAll(orderRepository.claimPendingOrderIds(from, cutoff, partitions, partition, properties.chunkSize()));
+                    return claimed.isEmpty() ? null : promoteClaimed(claimed);
+                });
+            } catch (RuntimeException ex) {
+                if (claimed.isEmpty()) {
+                    throw ex;
+                }
+                // The chunk rolled back and its orders are still pending; leave them to the next run and carry on.
+                afterId = claimed.get(claimed.size() - 1);
+                log.warn(
+                    "Promotion partition {}/{} chunk {} failed, {} order(s) up to id {} left pending",
+                    partition,
+                    partitions,
+                    sequence,
+                    claimed.size(),
+                    afterId,
+                    ex
+                );
+                continue;
+            }
+            if (result == null) {
+                break;
+            }
+            PromotionChunk chunk = new PromotionChunk(
+                partition,
+                sequence,
+                result.ordersPromoted(),
+                result.productsCommitted(),
+                result.unitsCommitted(),
+                result.lastOrderId(),
+                Duration.ofNanos(System.nanoTime() - startedAt)
+            );
+            log.info(
+                "Promotion partition {}/{} chunk {}: {} order(s) promoted, {} unit(s) committed across {} product(s), last id {}, {} ms",
+                chunk.partition(),
+                partitions,
+                chunk.sequence(),
+                chunk.ordersPromoted(),
+                chunk.unitsCommitted(),
+                chunk.productsCommitted(),
+                chunk.lastOrderId(),
+                chunk.elapsed().toMillis()
+            );
+            orderMetrics.chunkPromoted(chunk.ordersPromoted());
+            promoted += chunk.ordersPromoted();
+            afterId = chunk.lastOrderId();
+        }
+        return promoted;
+    }
+
+    /**
+     * Commits inventory for, and promotes, orders already locked by the current transaction.
+     */
+    private ChunkResult promoteClaimed(List<Long> orderIds) {
+        Map<String, Integer> quantities = new TreeMap<>();
+        long units = 0;
+        for (ProductQuantity line : orderRepository.sumItemQuantitiesByOrderIds(orderIds)) {
+            quantities.put(line.getProductCode(), Math.toIntExact(line.getQuantity()));
+            units += line.getQuantity();
+        }
+        inventoryService.commitQuantities(quantities);
+        Instant promotedAt = Instant.now();
+        int promoted = orderRepository.updateStatusByIds(orderIds, OrderStatus.PENDING, OrderStatus.PROCESSING, promotedAt);
+        for (OrderNumberView order : orderRepository.findOrderNumbersByIdIn(orderIds)) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order.getId(),
+                order.getOrderNumber(),
+                OrderStatus.PENDING,
+                OrderStatus.PROCESSING,
+                order.getTotalAmount().toBigDecimal(),
+                promotedAt
+            ));
+        }
+        return new ChunkResult(promoted, quantities.size(), units, orderIds.get(orderIds.size() - 1));
+    }
+
+    private record ChunkResult(int ordersPromoted, int productsCommitted, long unitsCommitted, long lastOrderId) {
+    }
+}
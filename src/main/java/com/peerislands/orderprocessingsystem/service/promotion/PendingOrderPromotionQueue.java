@@ -0,0 +1,71 @@
+package com.peerislands.orderprocessingsystem.service.promotion;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderPromotionProperties;
+import com.peerislands.orderprocessingsystem.service.event.OrderCreatedEvent;
+import com.peerislands.orderprocessingsystem.service.util.DueOrderQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Promotes each order as soon as its hold period has elapsed, instead of waiting for the next sweep. Orders are
+ * enqueued once their creating transaction commits; orders lost from the queue (restart, overflow, failure) are left
+ * for the reconciliation sweep in {@link com.peerislands.orderprocessingsystem.scheduler.OrderStatusScheduler}.
+ */
+@Component
+public class PendingOrderPromotionQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingOrderPromotionQueue.class);
+
+    private final OrderPromotionProperties properties;
+    private final DueOrderQueue queue;
+
+    public PendingOrderPromotionQueue(
+        PendingOrderPromoter promoter,
+        BackgroundTaskExecutors backgroundTaskExecutors,
+        OrderPromotionProperties properties
+    ) {
+        this.properties = properties;
+        this.queue = new DueOrderQueue(
+            "promotion-queue",
+            properties.queueCapacity(),
+            properties.chunkSize(),
+            orderIds -> {
+                int promoted = promoter.promoteOrders(orderIds);
+                log.debug("Promoted {} of {} due order(s)", promoted, orderIds.size());
+            },
+            backgroundTaskExecutors.threadFactory("promotion-queue-")
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        if (!properties.eventDriven()) {
+            return;
+        }
+        if (!queue.offer(event.orderId(), event.createdAt().plus(properties.holdPeriod()))) {
+            log.warn("Promotion queue is full; order {} will be promoted by the next sweep", event.orderNumber());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (properties.eventDriven()) {
+            queue.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        queue.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return queue.isRunning();
+    }
+}
@@ -0,0 +1,25 @@
+package com.peerislands.orderprocessingsystem.service.promotion;
+
+import java.time.Duration;
+
+/**
+ * Outcome of promoting one chunk of pending orders in its own transaction.
+ *
+ * @param partition         id partition the chunk was claimed from
+ * @param sequence          1-based position of the chunk within its partition's run
+ * @param ordersPromoted    orders moved to {@code PROCESSING}
+ * @param productsCommitted distinct product codes whose reservations were committed
+ * @param unitsCommitted    total item quantity committed across those products
+ * @param lastOrderId       highest order id covered; the next chunk starts after it
+ * @param elapsed           wall-clock time spent on the chunk, including the commit
+ */
+public record PromotionChunk(
+    int partition,
+    int sequence,
+    int ordersPromoted,
+    int productsCommitted,
+    long unitsCommitted,
+    long lastOrderId,
+    Duration elapsed
+) {
+}
@@ -0,0 +1,119 @@
+package com.peerislands.orderprocessingsystem.service.reservation;
+
+import com.peerislands.orderprocessingsystem.config.OrderReservationProperties;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.repository.OrderNumberView;
+import com.peerislands.orderprocessingsystem.repository.OrderRepository;
+import com.peerislands.orderprocessingsystem.repository.ProductQuantity;
+import com.peerislands.orderprocessingsystem.service.event.OrderStatusChangedEvent;
+import com.peerislands.orderprocessingsystem.service.inventory.InventoryService;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Cancels pending orders whose reservation deadline has passed and returns their stock. Each batch is claimed with
+ * {@code FOR UPDATE SKIP LOCKED} through the {@code reserved_until} index, its quantities are released with one
+ * aggregated call per product, and the orders are cancelled with a single bulk {@code UPDATE}. Promotion claims the
+ * same pending rows, so an order is either promoted or expired, never both.
+ */
+@Component
+public class ReservationExpirer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationExpirer.class);
+
+    private final OrderRepository orderRepository;
+    private final InventoryService inventoryService;
+    private final TransactionTemplate batchTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderReservationProperties properties;
+    private final OrderMetrics orderMetrics;
+
+    public ReservationExpirer(
+        OrderRepository orderRepository,
+        InventoryService inventoryService,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        OrderReservationProperties properties,
+        OrderMetrics orderMetrics
+    ) {
+        this.orderRepository = orderRepository;
+        this.inventoryService = inventoryService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.orderMetrics = orderMetrics;
+    }
+
+    /**
+     * Expires every pending order whose deadline is at or before {@code now}, batch by batch.
+     *
+     * @return number of orders expired
+     */
+    public int expireDue(Instant now) {
+        int expired = 0;
+        while (true) {
+            Integer batch = batchTransaction.execute(status -> {
+                List<Long> claimed = orderRepository.claimExpiredOrderIds(now, properties.batchSize());
+                return claimed.isEmpty() ? 0 : expireClaimed(claimed);
+            });
+            if (batch == null || batch == 0) {
+                return expired;
+            }
+            expired += batch;
+        }
+    }
+
+    /**
+     * Expires those of the given orders that are still pending and past their deadline, in one transaction.
+     *
+     * @return number of orders expired
+     */
+    public int expireOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        Integer expired = batchTransaction.execute(status -> {
+            List<Long> claimed = orderRepository.claimExpiredOrderIdsIn(orderIds, Instant.now());
+            return claimed.isEmpty() ? 0 : expireClaimed(claimed);
+        });
+        return expired == null ? 0 : expired;
+    }
+
+    /**
+     * Releases inventory for, and cancels, orders already locked by the current transaction.
+     */
+    private int expireClaimed(List<Long> orderIds) {
+        Map<String, Integer> quantities = new TreeMap<>();
+        for (ProductQuantity line : orderRepository.sumItemQuantitiesByOrderIds(orderIds)) {
+            quantities.put(line.getProductCode(), Math.toIntExact(line.getQuantity()));
+        }
+        inventoryService.releaseQuantities(quantities);
+        Instant expiredAt = Instant.now();
+        int expired = orderRepository.updateStatusByIds(orderIds, OrderStatus.PENDING, OrderStatus.CANCELLED, expiredAt);
+        for (OrderNumberView order : orderRepository.findOrderNumbersByIdIn(orderIds)) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order.getId(),
+                order.getOrderNumber(),
+                OrderStatus.PENDING,
+                OrderStatus.CANCELLED,
+                order.getTotalAmount().toBigDecimal(),
+                expiredAt
+            ));
+        }
+        orderMetrics.reservationsExpired(expired);
+        log.info("Expired reservations of {} pending order(s) across {} product(s)", expired, quantities.size());
+        return expired;
+    }
+}
@@ -0,0 +1,81 @@
+package com.peerislands.orderprocessingsystem.service.reservation;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderPromotionProperties;
+import com.peerislands.orderprocessingsystem.config.OrderReservationProperties;
+import com.peerislands.orderprocessingsystem.service.event.OrderCreatedEvent;
+import com.peerislands.orderprocessingsystem.service.util.DueOrderQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory deadline index of pending orders: each order is queued with its {@code reserved_until} once its creating
+ * transaction commits and expired as soon as the deadline passes. Orders promoted or cancelled in the meantime are
+ * skipped when claimed. Anything the queue misses (restart, overflow, failure) is found by
+ * {@link com.peerislands.orderprocessingsystem.scheduler.ReservationExpiryScheduler} through the indexed column.
+ */
+@Component
+public class ReservationExpiryQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationExpiryQueue.class);
+
+    private final OrderReservationProperties properties;
+    private final DueOrderQueue queue;
+
+    public ReservationExpiryQueue(
+        ReservationExpirer expirer,
+        BackgroundTaskExecutors backgroundTaskExecutors,
+        OrderReservationProperties properties,
+        OrderPromotionProperties promotionProperties
+    ) {
+        this.properties = properties;
+        this.queue = new DueOrderQueue(
+            "reservation-expiry-queue",
+            properties.queueCapacity(),
+            properties.batchSize(),
+            orderIds -> {
+                int expired = expirer.expireOrders(orderIds);
+                log.debug("Expired {} of {} due order(s)", expired, orderIds.size());
+            },
+            backgroundTaskExecutors.threadFactory("reservation-expiry-")
+        );
+        if (properties.enabled() && properties.ttl().compareTo(promotionProperties.holdPeriod()) <= 0) {
+            log.warn(
+                "orders.reservation.ttl ({}) does not exceed orders.promotion.hold-period ({}); orders will expire before they can be promoted",
+                properties.ttl(),
+                promotionProperties.holdPeriod()
+            );
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        if (event.reservedUntil() == null) {
+            return;
+        }
+        if (!queue.offer(event.orderId(), event.reservedUntil())) {
+            log.warn("Reservation expiry queue is full; order {} will be expired by the next sweep", event.orderNumber());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (properties.enabled()) {
+            queue.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        queue.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return queue.isRunning();
+    }
+}
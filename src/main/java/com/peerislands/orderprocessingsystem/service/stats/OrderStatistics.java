@@ -0,0 +1,151 @@
+package com.peerislands.orderprocessingsystem.service.stats;
+
+import com.peerislands.orderprocessingsystem.config.OrderStatsProperties;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.repository.DailyTotals;
+import com.peerislands.orderprocessingsystem.repository.OrderRepository;
+import com.peerislands.orderprocessingsystem.repository.ProductQuantity;
+import com.peerislands.orderprocessingsystem.repository.StatusTotals;
+import com.peerislands.orderprocessingsystem.service.event.OrderCreatedEvent;
+import com.peerislands.orderprocessingsystem.service.event.OrderStatusChangedEvent;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Order counts and totals per status, per day and per product, kept in {@link LongAdder}s and updated from committed
+ * order events. Counters are seeded once with aggregate queries before the application starts taking traffic; after
+ * that no query touches the orders table. Amounts are accumulated in cents.
+ * <p>
+ * Readers get a snapshot rebuilt every {@code orders.stats.refresh-interval-ms}, so serving it costs the same no
+ * matter how many orders or products exist. Only changes committed on this node are counted; other nodes converge on
+ * their next restart.
+ */
+@Component
+public class OrderStatistics implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatistics.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderStatsProperties properties;
+    private final Clock clock = Clock.systemUTC();
+
+    private final Map<OrderStatus, Counter> byStatus = new EnumMap<>(OrderStatus.class);
+    private final ConcurrentMap<LocalDate, Counter> byDay = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> unitsByProduct = new ConcurrentHashMap<>();
+    private volatile OrderStatsSnapshot snapshot;
+
+    public OrderStatistics(OrderRepository orderRepository, OrderStatsProperties properties) {
+        this.orderRepository = orderRepository;
+        this.properties = properties;
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, new Counter());
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (StatusTotals totals : orderRepository.sumTotalsByStatus()) {
+            byStatus.get(totals.getStatus()).add(totals.getOrders(), toCents(totals.getAmount()));
+        }
+        Instant since = firstTrackedDay().atStartOfDay(ZoneOffset.UTC).toInstant();
+        for (DailyTotals totals : orderRepository.sumTotalsByDaySince(since)) {
+            byDay.computeIfAbsent(totals.getDay(), day -> new Counter()).add(totals.getOrders(), toCents(totals.getAmount()));
+        }
+        for (ProductQuantity product : orderRepository.sumItemQuantitiesByProduct()) {
+            unitsByProduct.computeIfAbsent(product.getProductCode(), code -> new LongAdder()).add(product.getQuantity());
+        }
+        refresh();
+        log.info("Seeded order statistics for {} product(s)", unitsByProduct.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        long cents = toCents(event.totalAmount());
+        byStatus.get(OrderStatus.PENDING).add(1, cents);
+        LocalDate day = LocalDate.ofInstant(event.createdAt(), ZoneOffset.UTC);
+        if (!day.isBefore(firstTrackedDay())) {
+            byDay.computeIfAbsent(day, key -> new Counter()).add(1, cents);
+        }
+        event.quantitiesByProductCode().forEach((productCode, quantity) ->
+            unitsByProduct.computeIfAbsent(productCode, code -> new LongAdder()).add(quantity)
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        long cents = toCents(event.totalAmount());
+        byStatus.get(event.previousStatus()).add(-1, -cents);
+        byStatus.get(event.status()).add(1, cents);
+    }
+
+    public OrderStatsSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.stats.refresh-interval-ms:1000}")
+    public void refresh() {
+        LocalDate firstDay = firstTrackedDay();
+        byDay.keySet().removeIf(day -> day.isBefore(firstDay));
+
+        Map<OrderStatus, OrderStatsSnapshot.Totals> statusTotals = new EnumMap<>(OrderStatus.class);
+        byStatus.forEach((status, counter) -> statusTotals.put(status, counter.totals()));
+
+        List<OrderStatsSnapshot.DayTotals> dayTotals = new ArrayList<>(byDay.size());
+        byDay.forEach((day, counter) -> {
+            OrderStatsSnapshot.Totals totals = counter.totals();
+            dayTotals.add(new OrderStatsSnapshot.DayTotals(day, totals.orders(), totals.amount()));
+        });
+        dayTotals.sort(Comparator.comparing(OrderStatsSnapshot.DayTotals::day).reversed());
+
+        List<OrderStatsSnapshot.ProductUnits> topProducts = unitsByProduct.entrySet().stream()
+            .map(entry -> new OrderStatsSnapshot.ProductUnits(entry.getKey(), entry.getValue().sum()))
+            .sorted(Comparator.comparingLong(OrderStatsSnapshot.ProductUnits::units).reversed()
+                .thenComparing(OrderStatsSnapshot.ProductUnits::productCode))
+            .limit(properties.topProducts())
+            .toList();
+
+        snapshot = new OrderStatsSnapshot(clock.instant(), Collections.unmodifiableMap(statusTotals), List.copyOf(dayTotals), topProducts);
+    }
+
+    private LocalDate firstTrackedDay() {
+        return LocalDate.now(clock).minusDays(Math.max(1, properties.days()) - 1L);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).longValue();
+    }
+
+    private static final class Counter {
+
+        private final LongAdder orders = new LongAdder();
+        private final LongAdder cents = new LongAdder();
+
+        void add(long orderDelta, long centsDelta) {
+            orders.add(orderDelta);
+            cents.add(centsDelta);
+        }
+
+        OrderStatsSnapshot.Totals totals() {
+            return new OrderStatsSnapshot.Totals(orders.sum(), BigDecimal.valueOf(cents.sum(), 2));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.peerislands.orderprocessingsystem.service.stats;
+
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time copy of the order statistics.
+ *
+ * @param byStatus    order count and summed total per current status
+ * @param byDay       orders placed and their summed total per UTC day, most recent first
+ * @param topProducts products with the most units ordered, highest first
+ */
+public record OrderStatsSnapshot(
+    Instant asOf,
+    Map<OrderStatus, Totals> byStatus,
+    List<DayTotals> byDay,
+    List<ProductUnits> topProducts
+) {
+
+    public record Totals(long orders, BigDecimal amount) {
+    }
+
+    public record DayTotals(LocalDate day, long orders, BigDecimal amount) {
+    }
+
+    public record ProductUnits(String productCode, long units) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.peerislands.orderprocessingsystem.service.ticket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peerislands.orderprocessingsystem.config.OrderTicketProperties;
+import com.peerislands.orderprocessingsystem.domain.exception.InsufficientInventoryException;
+import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
+import com.peerislands.orderprocessingsystem.domain.exception.OrderNotFoundException;
+import com.peerislands.orderprocessingsystem.domain.exception.ResourceNotFoundException;
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderTicket;
+import com.peerislands.orderprocessingsystem.repository.OrderTicketRepository;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Staging of order creation requests accepted asynchronously. {@link #submit} only inserts a ticket, so accepting a
+ * request never waits on inventory locks. {@link #process} later claims the ticket with
+ * {@code FOR UPDATE SKIP LOCKED}, creates the order and marks the ticket in the same transaction, so a ticket yields
+ * at most one order even when several workers or instances pick it up.
+ */
+@Service
+public class OrderTicketService {
+
+    private final OrderTicketRepository ticketRepository;
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final OrderTicketProperties properties;
+    private final TransactionTemplate ticketTransaction;
+
+    public OrderTicketService(
+        OrderTicketRepository ticketRepository,
+        OrderService orderService,
+        ObjectMapper objectMapper,
+        OrderTicketProperties properties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.orderService = orderService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.ticketTransaction = new TransactionTemplate(transactionManager);
+        this.ticketTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public OrderTicket submit(CreateOrderCommand command) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(command);
+        } catch (JsonProcessingException ex) {
+            throw new InvalidOrderStateException("Order request cannot be queued: " + ex.getOriginalMessage());
+        }
+        return ticketRepository.save(new OrderTicket(UUID.randomUUID().toString(), payload, Instant.now()));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderTicket getTicket(String ticketId) {
+        return ticketRepository.findByTicketId(ticketId)
+            .orElseThrow(() -> new OrderNotFoundException("Order ticket %s not found".formatted(ticketId)));
+    }
+
+    /**
+     * Creates the order for a queued ticket, or records why it was rejected. Failures other than a rejection are
+     * counted and rethrown; the ticket stays queued for a later attempt until {@code orders.tickets.max-attempts} is
+     * reached and is then marked {@code FAILED}.
+     *
+     * @return {@code false} when the ticket was already decided or is being processed elsewhere
+     */
+    public boolean process(Long id) {
+        try {
+            return Boolean.TRUE.equals(ticketTransaction.execute(status -> {
+                OrderTicket ticket = claim(id);
+                if (ticket == null) {
+                    return false;
+                }
+                Order order = orderService.createOrder(readCommand(ticket));
+                ticket.markCreated(order.getOrderNumber(), Instant.now());
+                return true;
+            }));
+        } catch (InsufficientInventoryException | InvalidOrderStateException | ResourceNotFoundException ex) {
+            // The order's transaction has rolled back; the rejection is recorded in a fresh one.
+            return Boolean.TRUE.equals(ticketTransaction.execute(status -> {
+                OrderTicket ticket = claim(id);
+                if (ticket == null) {
+                    return false;
+                }
+                ticket.markRejected(ex.getMessage(), Instant.now());
+                return true;
+            }));
+        } catch (RuntimeException ex) {
+            try {
+                ticketTransaction.executeWithoutResult(status -> {
+                    OrderTicket ticket = claim(id);
+                    if (ticket != null) {
+                        ticket.recordFailedAttempt(ex.getMessage(), properties.maxAttempts(), Instant.now());
+                    }
+                });
+            } catch (RuntimeException recordFailure) {
+                ex.addSuppressed(recordFailure);
+            }
+            throw ex;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findQueuedTicketIds(Instant before, int limit) {
+        return ticketRepository.findQueuedTicketIds(before, limit);
+    }
+
+    @Transactional
+    public int purgeDecidedTickets(Instant cutoff) {
+        return ticketRepository.deleteDecidedBefore(cutoff);
+    }
+
+    private OrderTicket claim(Long id) {
+        return ticketRepository.claimQueuedTicket(id).flatMap(ticketRepository::findById).orElse(null);
+    }
+
+    private CreateOrderCommand readCommand(OrderTicket ticket) {
+        try {
+            return objectMapper.readValue(ticket.getRequestPayload(), CreateOrderCommand.class);
+        } catch (JsonProcessingException ex) {
+            throw new InvalidOrderStateException("Queued order request is unreadable: " + ex.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.peerislands.orderprocessingsystem.service.ticket;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderTicketProperties;
+import com.peerislands.orderprocessingsystem.domain.model.OrderTicket;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Worker pool for queued order tickets, sized by {@code orders.tickets.workers} independently of the web threads.
+ * Accepted tickets are handed over in memory right after they commit; the in-memory queue is only a shortcut, and
+ * tickets it drops or loses on shutdown stay {@code QUEUED} in the table until {@link #sweep} hands them over again.
+ */
+@Component
+public class OrderTicketWorkers implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderTicketWorkers.class);
+
+    private final OrderTicketService ticketService;
+    private final OrderTicketProperties properties;
+    private final ThreadFactory threadFactory;
+    private final BlockingQueue<Long> queue;
+    private final List<Thread> workers = new ArrayList<>();
+
+    public OrderTicketWorkers(
+        OrderTicketService ticketService,
+        OrderTicketProperties properties,
+        BackgroundTaskExecutors backgroundTaskExecutors
+    ) {
+        this.ticketService = ticketService;
+        this.properties = properties;
+        this.threadFactory = backgroundTaskExecutors.threadFactory("order-ticket-");
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    /**
+     * Stages the order and queues its ticket for the workers. Returns once the ticket is committed.
+     */
+    public OrderTicket accept(CreateOrderCommand command) {
+        OrderTicket ticket = ticketService.submit(command);
+        if (!queue.offer(ticket.getId())) {
+            log.debug("Order ticket queue is full; ticket {} will be picked up by the next sweep", ticket.getTicketId());
+        }
+        return ticket;
+    }
+
+    /**
+     * Hands tickets that are still queued in the table and were last touched before {@code before} to the workers.
+     * Tickets already waiting in memory may be handed over twice; only the first claim processes them.
+     *
+     * @return number of tickets handed over
+     */
+    public int sweep(Instant before) {
+        int handedOver = 0;
+        for (Long id : ticketService.findQueuedTicketIds(before, properties.sweepBatchSize())) {
+            if (!queue.offer(id)) {
+                break;
+            }
+            handedOver++;
+        }
+        return handedOver;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!workers.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < Math.max(1, properties.workers()); i++) {
+            Thread worker = threadFactory.newThread(this::runWorker);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+        queue.clear();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return !workers.isEmpty();
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Long id;
+            try {
+                id = queue.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                ticketService.process(id);
+            } catch (RuntimeException ex) {
+                log.warn("Processing order ticket {} failed; it is retried by the sweep until it runs out of attempts", id, ex);
+            }
+        }
+    }
+}
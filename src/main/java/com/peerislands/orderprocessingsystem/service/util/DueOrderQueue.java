@@ -0,0 +1,114 @@
+package com.peerislands.orderprocessingsystem.service.util;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process delay queue of order ids keyed by due time. A single worker thread sleeps until the earliest entry is
+ * due, then hands every entry that is due at that moment, up to {@code batchSize}, to the handler in one call.
+ * <p>
+ * The queue is a latency optimisation only: it is bounded, not persisted, and entries that fail are dropped. Owners
+ * are expected to run a periodic sweep that catches anything the queue lost.
+ */
+public final class DueOrderQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(DueOrderQueue.class);
+
+    private final DelayQueue<DueOrder> queue = new DelayQueue<>();
+    // Entries offered and not yet taken by the worker; reserved before inserting so concurrent offers respect the bound.
+    private final AtomicInteger queued = new AtomicInteger();
+    private final String name;
+    private final int capacity;
+    private final int batchSize;
+    private final Consumer<List<Long>> handler;
+    private final ThreadFactory threadFactory;
+    private volatile Thread worker;
+
+    public DueOrderQueue(String name, int capacity, int batchSize, Consumer<List<Long>> handler, ThreadFactory threadFactory) {
+        this.name = name;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.handler = handler;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * @return {@code false} when the queue is full and the order was not enqueued
+     */
+    public boolean offer(Long orderId, Instant dueAt) {
+        int current;
+        do {
+            current = queued.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!queued.compareAndSet(current, current + 1));
+        queue.offer(new DueOrder(orderId, dueAt.toEpochMilli()));
+        return true;
+    }
+
+    public int size() {
+        return queued.get();
+    }
+
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        Thread thread = threadFactory.newThread(this::run);
+        worker = thread;
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    private void run() {
+        List<DueOrder> due = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                due.add(queue.take());
+                queue.drainTo(due, batchSize - 1);
+                queued.addAndGet(-due.size());
+                handler.accept(due.stream().map(DueOrder::orderId).toList());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                log.warn("{} failed to handle {} due order(s); they will be picked up by the next sweep", name, due.size(), ex);
+            } finally {
+                due.clear();
+            }
+        }
+    }
+
+    private record DueOrder(Long orderId, long dueAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((DueOrder) other).dueAtMillis);
+        }
+    }
+}
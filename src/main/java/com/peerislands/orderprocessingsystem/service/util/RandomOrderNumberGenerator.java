@@ -0,0 +1,34 @@
+package com.peerislands.orderprocessingsystem.service.util;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "orders.number", name = "strategy", havingValue = "random", matchIfMissing = true)
+public class RandomOrderNumberGenerator implements OrderNumberGenerator {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd")
+        .withZone(ZoneOffset.UTC);
+    private static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Override
+    public String generate() {
+        String datePart = DATE_FORMATTER.format(Instant.now());
+        String randomPart = randomSegment(6);
+        return "ORD-" + datePart + "-" + randomPart;
+    }
+
+    private String randomSegment(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            int index = RANDOM.nextInt(ALPHANUMERIC.length());
+            builder.append(ALPHANUMERIC.charAt(index));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package com.peerislands.orderprocessingsystem.service.util;
+
+import com.peerislands.orderprocessingsystem.config.OrderNumberProperties;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snowflake-style generator that is unique by construction. The six-character suffix encodes, in base 36,
+ * {@code secondOfDay (17 bits) | nodeId (4 bits) | sequence (10 bits)}, so each node can issue 1,024 numbers per
+ * second without coordination. When a second is exhausted the logical clock borrows the next one, and it never moves
+ * backwards even if the wall clock does.
+ * <p>
+ * Uniqueness across restarts relies on a restart taking longer than the lead the logical clock has built up over the
+ * wall clock, which is only non-zero under sustained bursts above 1,024 orders per second. The unique constraint on
+ * {@code orders.order_number} remains the final safeguard.
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders.number", name = "strategy", havingValue = "sequence")
+public class SequenceOrderNumberGenerator implements OrderNumberGenerator {
+
+    static final int MAX_NODE_ID = 15;
+
+    private static final int SEQUENCE_BITS = 10;
+    private static final int NODE_BITS = 4;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int SUFFIX_LENGTH = 6;
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private final int nodeId;
+    private final AtomicLong clock = new AtomicLong();
+    private volatile DatePrefix datePrefix = new DatePrefix(-1, "");
+
+    public SequenceOrderNumberGenerator(OrderNumberProperties properties) {
+        if (properties.nodeId() < 0 || properties.nodeId() > MAX_NODE_ID) {
+            throw new IllegalArgumentException("orders.number.node-id must be between 0 and %d".formatted(MAX_NODE_ID));
+        }
+        this.nodeId = properties.nodeId();
+    }
+
+    @Override
+    public String generate() {
+        long tick = nextTick();
+        long epochSecond = tick >>> SEQUENCE_BITS;
+        long sequence = tick & ((1L << SEQUENCE_BITS) - 1);
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        long value = (secondOfDay << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+        char[] suffix = new char[SUFFIX_LENGTH];
+        for (int i = SUFFIX_LENGTH - 1; i >= 0; i--) {
+            suffix[i] = DIGITS[(int) (value % DIGITS.length)];
+            value /= DIGITS.length;
+        }
+        return prefixFor(epochDay).concat(new String(suffix));
+    }
+
+    @Override
+    public boolean isUniqueByConstruction() {
+        return true;
+    }
+
+    /**
+     * Returns {@code epochSecond << SEQUENCE_BITS | sequence}, strictly increasing across calls.
+     */
+    private long nextTick() {
+        long nowTick = (System.currentTimeMillis() / 1000) << SEQUENCE_BITS;
+        while (true) {
+            long previous = clock.get();
+            long next = nowTick > previous ? nowTick : previous + 1;
+            if (clock.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    private String prefixFor(long epochDay) {
+        DatePrefix cached = datePrefix;
+        if (cached.epochDay() == epochDay) {
+            return cached.prefix();
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        String prefix = "ORD-%04d%02d%02d-".formatted(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        datePrefix = new DatePrefix(epochDay, prefix);
+        return prefix;
+    }
+
+    private record DatePrefix(long epochDay, String prefix) {
+    }
+}
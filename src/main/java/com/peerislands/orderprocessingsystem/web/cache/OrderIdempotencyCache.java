@@ -0,0 +1,117 @@
+package com.peerislands.orderprocessingsystem.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.peerislands.orderprocessingsystem.config.OrderIdempotencyProperties;
+import com.peerislands.orderprocessingsystem.domain.exception.IdempotencyKeyReuseException;
+import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
+import com.peerislands.orderprocessingsystem.service.command.IdempotencyKey;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU of the responses to recent idempotent create requests, keyed by {@code Idempotency-Key}. A retry that
+ * hits the cache is answered with the original response without reaching the service layer. Concurrent requests with
+ * the same key share one in-flight creation: the first runs it, the others wait for its outcome.
+ * <p>
+ * The cache is only a fast path. Keys are also recorded in the database by the service, together with the response
+ * rendered by {@link #toRecorded(OrderResponse)}, which covers evicted entries, restarts and duplicates arriving at
+ * another instance. Either way a retry gets the original response, not the order's current state.
+ */
+@Component
+public class OrderIdempotencyCache {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final AsyncCache<String, CompletedRequest> cache;
+    private final ObjectMapper objectMapper;
+
+    public OrderIdempotencyCache(OrderIdempotencyProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.cacheTtl())
+            .buildAsync();
+    }
+
+    /**
+     * Returns the response recorded for {@code key}, or runs {@code create} once to produce it; {@code create} returns
+     * the response as recorded with the key. Failed creations are not cached, so a retry after an error runs again.
+     *
+     * @throws IdempotencyKeyReuseException if {@code key} was used for a request with a different body
+     */
+    public OrderResponse createOnce(String key, Object request, Function<IdempotencyKey, String> create) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidOrderStateException("Idempotency-Key must be 1 to %d characters".formatted(MAX_KEY_LENGTH));
+        }
+        String requestHash = hash(request);
+        CompletableFuture<CompletedRequest> pending = new CompletableFuture<>();
+        CompletableFuture<CompletedRequest> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing == null) {
+            try {
+                String recorded = create.apply(new IdempotencyKey(key, requestHash));
+                pending.complete(new CompletedRequest(requestHash, fromRecorded(recorded)));
+            } catch (RuntimeException ex) {
+                // Caffeine drops entries whose future fails, which also releases any waiting duplicates.
+                pending.completeExceptionally(ex);
+                throw ex;
+            }
+            return pending.join().response();
+        }
+        CompletedRequest completed = await(existing);
+        if (!completed.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReuseException(key);
+        }
+        return completed.response();
+    }
+
+    /**
+     * Renders a response in the form recorded with its idempotency key.
+     */
+    public String toRecorded(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot record response for idempotency key", ex);
+        }
+    }
+
+    private OrderResponse fromRecorded(String recorded) {
+        try {
+            return objectMapper.readValue(recorded, OrderResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot read response recorded for idempotency key", ex);
+        }
+    }
+
+    private static CompletedRequest await(CompletableFuture<CompletedRequest> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Cannot hash request for idempotency check", ex);
+        }
+    }
+
+    private record CompletedRequest(String requestHash, OrderResponse response) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.peerislands.orderprocessingsystem.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.peerislands.orderprocessingsystem.config.OrderCacheProperties;
+import com.peerislands.orderprocessingsystem.service.event.OrderStatusChangedEvent;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded cache of already-mapped {@link OrderResponse} snapshots keyed by order number. Entries are dropped when a
+ * status change commits; terminal orders are kept much longer than active ones because they no longer change.
+ * <p>
+ * A read that loads concurrently with a committing status change may cache the previous snapshot; the active TTL
+ * bounds how long such an entry can be served.
+ */
+@Component
+public class OrderResponseCache {
+
+    private final Cache<String, OrderResponse> cache;
+
+    public OrderResponseCache(OrderCacheProperties properties) {
+        long activeTtlNanos = properties.activeTtl().toNanos();
+        long terminalTtlNanos = properties.terminalTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfter(new Expiry<String, OrderResponse>() {
+                @Override
+                public long expireAfterCreate(String orderNumber, OrderResponse response, long currentTime) {
+                    return response.status().isTerminal() ? terminalTtlNanos : activeTtlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(String orderNumber, OrderResponse response, long currentTime, long currentDuration) {
+                    return expireAfterCreate(orderNumber, response, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String orderNumber, OrderResponse response, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached snapshot, loading it with {@code loader} on a miss. Concurrent misses for the same order
+     * share a single load.
+     */
+    public OrderResponse get(String orderNumber, Function<String, OrderResponse> loader) {
+        return cache.get(orderNumber, loader);
+    }
+
+    public void invalidate(String orderNumber) {
+        cache.invalidate(orderNumber);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        invalidate(event.orderNumber());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,31 @@
+package com.peerislands.orderprocessingsystem.web.controller;
+
+import com.peerislands.orderprocessingsystem.service.inventory.InventoryAvailability;
+import com.peerislands.orderprocessingsystem.web.dto.InventoryAvailabilityResponse;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/inventory")
+@Validated
+public class InventoryController {
+
+    private final InventoryAvailability inventoryAvailability;
+
+    public InventoryController(InventoryAvailability inventoryAvailability) {
+        this.inventoryAvailability = inventoryAvailability;
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<InventoryAvailabilityResponse> getAvailability(
+        @RequestParam("codes") @Size(min = 1, max = 100, message = "Between 1 and 100 product codes must be requested") List<String> codes
+    ) {
+        return ResponseEntity.ok(new InventoryAvailabilityResponse(inventoryAvailability.available(codes), inventoryAvailability.refreshedAt()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.peerislands.orderprocessingsystem.web.controller;
+
+import com.peerislands.orderprocessingsystem.config.OrderBatchProperties;
+import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.service.command.OrderCreationResult;
+import com.peerislands.orderprocessingsystem.web.dto.BatchCreateOrdersRequest;
+import com.peerislands.orderprocessingsystem.web.dto.BatchCreateOrdersResponse;
+import com.peerislands.orderprocessingsystem.web.dto.BatchOrderResult;
+import com.peerislands.orderprocessingsystem.web.dto.CreateOrderRequest;
+import com.peerislands.orderprocessingsystem.web.mapper.OrderMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk intake for upstream systems that deliver orders in bursts. Lives outside {@link OrderController} because its
+ * custom-method path ({@code /orders:batch}) cannot be expressed relative to {@code /api/v1/orders}.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class OrderBatchController {
+
+    private final OrderService orderService;
+    private final OrderMapper orderMapper;
+    private final Validator validator;
+    private final OrderBatchProperties batchProperties;
+
+    public OrderBatchController(
+        OrderService orderService,
+        OrderMapper orderMapper,
+        Validator validator,
+        OrderBatchProperties batchProperties
+    ) {
+        this.orderService = orderService;
+        this.orderMapper = orderMapper;
+        this.validator = validator;
+        this.batchProperties = batchProperties;
+    }
+
+    @PostMapping("/orders:batch")
+    public ResponseEntity<BatchCreateOrdersResponse> createOrders(@Valid @RequestBody BatchCreateOrdersRequest request) {
+        List<CreateOrderRequest> orders = request.orders();
+        if (orders.size() > batchProperties.maxSize()) {
+            throw new InvalidOrderStateException("A batch may contain at most %d orders".formatted(batchProperties.maxSize()));
+        }
+
+        BatchOrderResult[] results = new BatchOrderResult[orders.size()];
+        List<Integer> accepted = new ArrayList<>(orders.size());
+        List<CreateOrderCommand> commands = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            String violations = describeViolations(orders.get(i));
+            if (violations != null) {
+                results[i] = BatchOrderResult.rejected(i, violations);
+                continue;
+            }
+            accepted.add(i);
+            commands.add(orderMapper.toCommand(orders.get(i)));
+        }
+
+        List<OrderCreationResult> outcomes = orderService.createOrders(commands);
+        int created = 0;
+        for (int i = 0; i < outcomes.size(); i++) {
+            int index = accepted.get(i);
+            OrderCreationResult outcome = outcomes.get(i);
+            if (outcome.isCreated()) {
+                results[index] = BatchOrderResult.created(index, orderMapper.toResponse(outcome.order()));
+                created++;
+            } else {
+                results[index] = BatchOrderResult.rejected(index, outcome.rejectionReason());
+            }
+        }
+        return ResponseEntity.ok(new BatchCreateOrdersResponse(created, orders.size() - created, Arrays.asList(results)));
+    }
+
+    private String describeViolations(CreateOrderRequest order) {
+        if (order == null) {
+            return "Order must not be null";
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(order);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+}
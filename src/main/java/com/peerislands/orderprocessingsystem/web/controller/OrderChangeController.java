@@ -0,0 +1,39 @@
+package com.peerislands.orderprocessingsystem.web.controller;
+
+import com.peerislands.orderprocessingsystem.config.OrderListingProperties;
+import com.peerislands.orderprocessingsystem.service.outbox.OrderChangeFeed;
+import com.peerislands.orderprocessingsystem.service.outbox.OrderChangeMessage;
+import com.peerislands.orderprocessingsystem.web.dto.OrderChangePageResponse;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/orders/changes")
+@Validated
+public class OrderChangeController {
+
+    private final OrderChangeFeed orderChangeFeed;
+    private final OrderListingProperties listingProperties;
+
+    public OrderChangeController(OrderChangeFeed orderChangeFeed, OrderListingProperties listingProperties) {
+        this.orderChangeFeed = orderChangeFeed;
+        this.listingProperties = listingProperties;
+    }
+
+    @GetMapping
+    public ResponseEntity<OrderChangePageResponse> getChanges(
+        @RequestParam(name = "after", defaultValue = "0") @PositiveOrZero(message = "After must not be negative") long after,
+        @RequestParam(name = "limit", defaultValue = "100") @Positive(message = "Limit must be greater than zero") int limit
+    ) {
+        List<OrderChangeMessage> changes = orderChangeFeed.changesAfter(after, Math.min(limit, listingProperties.maxPageSize()));
+        long nextAfter = changes.isEmpty() ? after : changes.get(changes.size() - 1).sequence();
+        return ResponseEntity.ok(new OrderChangePageResponse(changes, nextAfter));
+    }
+}
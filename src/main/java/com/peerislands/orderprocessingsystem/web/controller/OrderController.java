@@ -1,16 +1,51 @@
 package com.peerislands.orderprocessingsystem.web.controller;
 
+import com.peerislands.orderprocessingsystem.config.OrderJournalProperties;
+import com.peerislands.orderprocessingsystem.config.OrderListingProperties;
+import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
+import com.peerislands.orderprocessingsystem.domain.exception.OrderNotFoundException;
+import com.peerislands.orderprocessingsystem.domain.exception.OrderRejectedException;
 import com.peerislands.orderprocessingsystem.domain.model.Order;
 import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.domain.model.OrderTicket;
 import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.service.command.IdempotencyKey;
+import com.peerislands.orderprocessingsystem.service.command.OrderCreationResult;
+import com.peerislands.orderprocessingsystem.service.intake.OrderIntakePipeline;
+import com.peerislands.orderprocessingsystem.service.journal.OrderJournalApplier;
+import com.peerislands.orderprocessingsystem.service.query.OrderCursor;
+import com.peerislands.orderprocessingsystem.service.ticket.OrderTicketWorkers;
+import com.peerislands.orderprocessingsystem.web.cache.OrderIdempotencyCache;
+import com.peerislands.orderprocessingsystem.web.cache.OrderResponseCache;
 import com.peerislands.orderprocessingsystem.web.dto.CreateOrderRequest;
+import com.peerislands.orderprocessingsystem.web.dto.OrderPageResponse;
 import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import com.peerislands.orderprocessingsystem.web.dto.OrderTicketResponse;
 import com.peerislands.orderprocessingsystem.web.dto.UpdateOrderStatusRequest;
 import com.peerislands.orderprocessingsystem.web.mapper.OrderMapper;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingPage;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingReader;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingView;
+import com.peerislands.orderprocessingsystem.web.stream.OrderResponseStreamer;
+import com.peerislands.orderprocessingsystem.web.stream.OrderStatusSubscriptions;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
-import java.util.List;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Positive;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,51 +53,252 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/orders")
 @Validated
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final OrderService orderService;
     private final OrderMapper orderMapper;
+    private final OrderResponseStreamer orderResponseStreamer;
+    private final OrderListingProperties listingProperties;
+    private final OrderResponseCache orderResponseCache;
+    private final OrderStatusSubscriptions orderStatusSubscriptions;
+    private final OrderListingReader orderListingReader;
+    private final OrderIdempotencyCache orderIdempotencyCache;
+    private final OrderIntakePipeline orderIntakePipeline;
+    private final OrderTicketWorkers orderTicketWorkers;
+    private final OrderJournalProperties journalProperties;
+    private final ObjectProvider<OrderJournalApplier> orderJournalApplier;
+    private final Validator validator;
 
-    public OrderController(OrderService orderService, OrderMapper orderMapper) {
+    public OrderController(
+        OrderService orderService,
+        OrderMapper orderMapper,
+        OrderResponseStreamer orderResponseStreamer,
+        OrderListingProperties listingProperties,
+        OrderResponseCache orderResponseCache,
+        OrderStatusSubscriptions orderStatusSubscriptions,
+        OrderListingReader orderListingReader,
+        OrderIdempotencyCache orderIdempotencyCache,
+        OrderIntakePipeline orderIntakePipeline,
+        OrderTicketWorkers orderTicketWorkers,
+        OrderJournalProperties journalProperties,
+        ObjectProvider<OrderJournalApplier> orderJournalApplier,
+        Validator validator
+    ) {
         this.orderService = orderService;
         this.orderMapper = orderMapper;
+        this.orderResponseStreamer = orderResponseStreamer;
+        this.listingProperties = listingProperties;
+        this.orderResponseCache = orderResponseCache;
+        this.orderStatusSubscriptions = orderStatusSubscriptions;
+        this.orderListingReader = orderListingReader;
+        this.orderIdempotencyCache = orderIdempotencyCache;
+        this.orderIntakePipeline = orderIntakePipeline;
+        this.orderTicketWorkers = orderTicketWorkers;
+        this.journalProperties = journalProperties;
+        this.orderJournalApplier = orderJournalApplier;
+        this.validator = validator;
     }
 
+    /**
+     * With {@code Prefer: respond-async} the request is staged as a ticket and answered with {@code 202 Accepted} once
+     * the ticket is committed; poll the returned location for the outcome. With {@code orders.journal.enabled} the
+     * order is acknowledged once it is in the order journal and reaches the database shortly after. With
+     * {@code orders.intake.enabled} the order is committed by the group-commit pipeline and the request completes
+     * asynchronously. Requests carrying an {@code Idempotency-Key} always take the per-request path; a key that was
+     * already used is answered with its original response before the body is validated.
+     */
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+    public CompletableFuture<ResponseEntity<?>> createOrder(
+        @RequestBody CreateOrderRequest request,
+        @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+        @RequestHeader HttpHeaders headers
+    ) {
+        if (prefersRespondAsync(headers)) {
+            return CompletableFuture.completedFuture(acceptOrder(validated(request)));
+        }
+        if (idempotencyKey != null) {
+            OrderResponse response = orderIdempotencyCache.createOnce(
+                idempotencyKey,
+                request,
+                key -> orderService.findRecordedResponse(key)
+                    .orElseGet(() -> createIdempotently(orderMapper.toCommand(validated(request)), key))
+            );
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CREATED).body(response));
+        }
+        validated(request);
+        if (journalProperties.enabled()) {
+            Instant acceptedAt = Instant.now();
+            Order order = orderService.journalOrder(orderMapper.toCommand(request));
+            return CompletableFuture.completedFuture(
+                ResponseEntity.status(HttpStatus.CREATED).body(orderMapper.toResponse(order, acceptedAt))
+            );
+        }
+        if (orderIntakePipeline.isEnabled()) {
+            return orderIntakePipeline.submit(orderMapper.toCommand(request)).thenApply(this::toCreatedResponse);
+        }
         Order order = orderService.createOrder(orderMapper.toCommand(request));
-        return ResponseEntity.status(HttpStatus.CREATED).body(orderMapper.toResponse(order));
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CREATED).body(orderMapper.toResponse(order)));
+    }
+
+    private ResponseEntity<OrderTicketResponse> acceptOrder(CreateOrderRequest request) {
+        OrderTicket ticket = orderTicketWorkers.accept(orderMapper.toCommand(request));
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/orders/tickets/" + ticket.getTicketId()))
+            .header("Preference-Applied", RESPOND_ASYNC)
+            .body(orderMapper.toTicketResponse(ticket));
+    }
+
+    private ResponseEntity<OrderResponse> toCreatedResponse(OrderCreationResult result) {
+        if (!result.isCreated()) {
+            // Same statuses as the per-request path: 400 for an invalid order, 409 for one the inventory refused.
+            if (result.invalid()) {
+                throw new InvalidOrderStateException(result.rejectionReason());
+            }
+            throw new OrderRejectedException(result.rejectionReason());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(orderMapper.toResponse(result.order()));
+    }
+
+    private CreateOrderRequest validated(CreateOrderRequest request) {
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    private String createIdempotently(CreateOrderCommand command, IdempotencyKey key) {
+        try {
+            return orderService.createOrder(command, key, this::recordedResponse);
+        } catch (DataIntegrityViolationException ex) {
+            // A duplicate on another instance claimed the key first; its order is committed now, so this replays it.
+            return orderService.createOrder(command, key, this::recordedResponse);
+        }
+    }
+
+    private String recordedResponse(Order order) {
+        return orderIdempotencyCache.toRecorded(orderMapper.toResponse(order));
     }
 
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId) {
-        Order order = orderService.getOrder(orderId);
-        return ResponseEntity.ok(orderMapper.toResponse(order));
+        OrderResponse response = awaitingJournal(
+            () -> orderResponseCache.get(orderId, key -> orderMapper.toResponse(orderService.getOrder(key)))
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Streams {@code status} events for one order until it reaches a terminal status or the subscription times out.
+     * The current status is sent first, followed only by changes that move past it.
+     */
+    @GetMapping(path = "/{orderId}/status-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus(@PathVariable String orderId) {
+        return orderStatusSubscriptions.subscribe(orderId, () -> awaitingJournal(() -> orderService.getOrderStatus(orderId)));
     }
 
-    @GetMapping
-    public ResponseEntity<List<OrderResponse>> getOrders(@RequestParam(name = "status", required = false) OrderStatus status) {
-        List<Order> orders = orderService.getOrders(Optional.ofNullable(status));
-        return ResponseEntity.ok(orderMapper.toResponse(orders));
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<StreamingResponseBody> getOrders(
+        @RequestParam(name = "status", required = false) OrderStatus status,
+        @RequestParam(name = "fields", required = false) String fields,
+        @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        Optional<OrderStatus> statusFilter = Optional.ofNullable(status);
+        OrderListingView view = OrderListingView.fromParameter(fields);
+        if (accepts(accept, MediaType.APPLICATION_NDJSON)) {
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(orderResponseStreamer.ndjson(statusFilter, view));
+        }
+        if (accepts(accept, MediaType.APPLICATION_CBOR)) {
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_CBOR)
+                .body(orderResponseStreamer.cborArray(statusFilter, view));
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(orderResponseStreamer.jsonArray(statusFilter, view));
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<OrderPageResponse> getOrderPage(
+        @RequestParam(name = "status", required = false) OrderStatus status,
+        @RequestParam(name = "limit") @Positive(message = "Limit must be greater than zero") int limit,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "fields", required = false) String fields
+    ) {
+        int pageSize = Math.min(limit, listingProperties.maxPageSize());
+        OrderListingPage page = orderListingReader.readPage(
+            Optional.ofNullable(status),
+            Optional.ofNullable(cursor).map(OrderCursor::decode),
+            pageSize,
+            OrderListingView.fromParameter(fields)
+        );
+        String nextCursor = page.hasNext() ? page.nextCursor().encode() : null;
+        return ResponseEntity.ok(new OrderPageResponse(page.orders(), nextCursor));
     }
 
     @PatchMapping("/{orderId}/status")
     public ResponseEntity<OrderResponse> updateStatus(@PathVariable String orderId, @Valid @RequestBody UpdateOrderStatusRequest request) {
-        Order order = orderService.updateOrderStatus(orderId, request.status());
+        Order order = awaitingJournal(() -> orderService.updateOrderStatus(orderId, request.status()));
         return ResponseEntity.ok(orderMapper.toResponse(order));
     }
 
     @PostMapping("/{orderId}/cancel")
     public ResponseEntity<OrderResponse> cancelOrder(@PathVariable String orderId) {
-        Order order = orderService.cancelOrder(orderId);
+        Order order = awaitingJournal(() -> orderService.cancelOrder(orderId));
         return ResponseEntity.ok(orderMapper.toResponse(order));
     }
+
+    /**
+     * Journaled orders are acknowledged before they are in the database. When an order is not found and the journal
+     * is behind, waits for it to catch up and looks once more.
+     */
+    private <T> T awaitingJournal(Supplier<T> lookup) {
+        try {
+            return lookup.get();
+        } catch (OrderNotFoundException ex) {
+            OrderJournalApplier applier = orderJournalApplier.getIfAvailable();
+            if (applier == null || !applier.awaitCaughtUp(Duration.ofMillis(journalProperties.lookupWaitMs()))) {
+                throw ex;
+            }
+            return lookup.get();
+        }
+    }
+
+    /**
+     * Looks for the {@code respond-async} preference among all {@code Prefer} headers (RFC 7240), which may list
+     * several comma-separated preferences, each optionally followed by a value and parameters.
+     */
+    private static boolean prefersRespondAsync(HttpHeaders headers) {
+        for (String preference : headers.getValuesAsList(PREFER_HEADER)) {
+            String token = preference.split("[;=]", 2)[0].trim();
+            if (token.equalsIgnoreCase(RESPOND_ASYNC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean accepts(String acceptHeader, MediaType mediaType) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return false;
+        }
+        return MediaType.parseMediaTypes(acceptHeader).stream().anyMatch(mediaType::equalsTypeAndSubtype);
+    }
 }
 
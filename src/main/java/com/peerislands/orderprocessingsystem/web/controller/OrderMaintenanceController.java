@@ -1,8 +1,16 @@
 package com.peerislands.orderprocessingsystem.web.controller;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.outbox.OrderChangeMessage;
+import com.peerislands.orderprocessingsystem.web.cache.OrderResponseCache;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -10,10 +18,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/internal/tools/orders")
 public class OrderMaintenanceController {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderMaintenanceController.class);
+
     private final OrderService orderService;
+    private final OrderResponseCache orderResponseCache;
 
-    public OrderMaintenanceController(OrderService orderService) {
+    public OrderMaintenanceController(OrderService orderService, OrderResponseCache orderResponseCache) {
         this.orderService = orderService;
+        this.orderResponseCache = orderResponseCache;
     }
 
     @PostMapping("/promote-pending")
@@ -22,7 +34,33 @@ public class OrderMaintenanceController {
         return ResponseEntity.ok(new PromotionResponse(promoted));
     }
 
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CacheStatsResponse> cacheStats() {
+        CacheStats stats = orderResponseCache.stats();
+        return ResponseEntity.ok(new CacheStatsResponse(
+            orderResponseCache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount()
+        ));
+    }
+
+    /**
+     * Local stand-in for a downstream consumer of the {@code http} outbox sink.
+     */
+    @PostMapping("/change-receiver")
+    public ResponseEntity<Void> receiveChanges(@RequestBody List<OrderChangeMessage> changes) {
+        if (!changes.isEmpty()) {
+            log.info("Received order changes {}..{}", changes.get(0).sequence(), changes.get(changes.size() - 1).sequence());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     public record PromotionResponse(int promotedCount) {
     }
+
+    public record CacheStatsResponse(long size, long hitCount, long missCount, double hitRate, long evictionCount) {
+    }
 }
 
@@ -0,0 +1,24 @@
+package com.peerislands.orderprocessingsystem.web.controller;
+
+import com.peerislands.orderprocessingsystem.service.stats.OrderStatistics;
+import com.peerislands.orderprocessingsystem.service.stats.OrderStatsSnapshot;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/orders/stats")
+public class OrderStatsController {
+
+    private final OrderStatistics orderStatistics;
+
+    public OrderStatsController(OrderStatistics orderStatistics) {
+        this.orderStatistics = orderStatistics;
+    }
+
+    @GetMapping
+    public ResponseEntity<OrderStatsSnapshot> getStats() {
+        return ResponseEntity.ok(orderStatistics.snapshot());
+    }
+}
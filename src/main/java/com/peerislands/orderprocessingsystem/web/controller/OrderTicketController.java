@@ -0,0 +1,28 @@
+package com.peerislands.orderprocessingsystem.web.controller;
+
+import com.peerislands.orderprocessingsystem.service.ticket.OrderTicketService;
+import com.peerislands.orderprocessingsystem.web.dto.OrderTicketResponse;
+import com.peerislands.orderprocessingsystem.web.mapper.OrderMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/orders/tickets")
+public class OrderTicketController {
+
+    private final OrderTicketService ticketService;
+    private final OrderMapper orderMapper;
+
+    public OrderTicketController(OrderTicketService ticketService, OrderMapper orderMapper) {
+        this.ticketService = ticketService;
+        this.orderMapper = orderMapper;
+    }
+
+    @GetMapping("/{ticketId}")
+    public ResponseEntity<OrderTicketResponse> getTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(orderMapper.toTicketResponse(ticketService.getTicket(ticketId)));
+    }
+}
@@ -0,0 +1,13 @@
+package com.peerislands.orderprocessingsystem.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Body of {@code POST /api/v1/orders:batch}. Individual orders are validated one by one so that an invalid order is
+ * rejected on its own instead of failing the whole request.
+ */
+public record BatchCreateOrdersRequest(
+    @NotEmpty(message = "At least one order is required") List<CreateOrderRequest> orders
+) {
+}
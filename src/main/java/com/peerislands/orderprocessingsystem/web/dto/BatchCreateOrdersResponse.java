@@ -0,0 +1,10 @@
+package com.peerislands.orderprocessingsystem.web.dto;
+
+import java.util.List;
+
+public record BatchCreateOrdersResponse(
+    int created,
+    int rejected,
+    List<BatchOrderResult> results
+) {
+}
@@ -0,0 +1,25 @@
+package com.peerislands.orderprocessingsystem.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchOrderResult(
+    int index,
+    Outcome outcome,
+    OrderResponse order,
+    String reason
+) {
+
+    public enum Outcome {
+        CREATED,
+        REJECTED
+    }
+
+    public static BatchOrderResult created(int index, OrderResponse order) {
+        return new BatchOrderResult(index, Outcome.CREATED, order, null);
+    }
+
+    public static BatchOrderResult rejected(int index, String reason) {
+        return new BatchOrderResult(index, Outcome.REJECTED, null, reason);
+    }
+}
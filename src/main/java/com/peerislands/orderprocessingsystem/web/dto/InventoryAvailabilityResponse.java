@@ -0,0 +1,11 @@
+package com.peerislands.orderprocessingsystem.web.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * @param available   units that can still be reserved, keyed by product code; unknown products are omitted
+ * @param refreshedAt when the snapshot the figures were read from was last refreshed
+ */
+public record InventoryAvailabilityResponse(Map<String, Integer> available, Instant refreshedAt) {
+}
@@ -0,0 +1,10 @@
+package com.peerislands.orderprocessingsystem.web.dto;
+
+import com.peerislands.orderprocessingsystem.service.outbox.OrderChangeMessage;
+import java.util.List;
+
+/**
+ * @param nextAfter sequence to pass as {@code after} on the next call; unchanged when no new changes were returned
+ */
+public record OrderChangePageResponse(List<OrderChangeMessage> changes, long nextAfter) {
+}
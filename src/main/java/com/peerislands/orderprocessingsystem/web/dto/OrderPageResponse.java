@@ -0,0 +1,9 @@
+package com.peerislands.orderprocessingsystem.web.dto;
+
+import java.util.List;
+
+public record OrderPageResponse(
+    List<OrderResponse> orders,
+    String nextCursor
+) {
+}
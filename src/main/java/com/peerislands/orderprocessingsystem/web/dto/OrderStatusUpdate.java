@@ -0,0 +1,14 @@
+package com.peerislands.orderprocessingsystem.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import java.time.Instant;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderStatusUpdate(
+    String orderId,
+    OrderStatus previousStatus,
+    OrderStatus status,
+    Instant occurredAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.peerislands.orderprocessingsystem.web.dto;
+
+import com.peerislands.orderprocessingsystem.domain.model.OrderTicketStatus;
+import java.time.Instant;
+
+/**
+ * @param orderId         public order number once the ticket is {@code CREATED}
+ * @param rejectionReason why the order was not created once the ticket is {@code REJECTED} or {@code FAILED}
+ */
+public record OrderTicketResponse(
+    String ticketId,
+    OrderTicketStatus status,
+    String orderId,
+    String rejectionReason,
+    Instant createdAt,
+    Instant updatedAt
+) {
+}
@@ -2,11 +2,14 @@ package com.peerislands.orderprocessingsystem.web.mapper;
 
 import com.peerislands.orderprocessingsystem.domain.model.Order;
 import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
+import com.peerislands.orderprocessingsystem.domain.model.OrderTicket;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
 import com.peerislands.orderprocessingsystem.web.dto.CreateOrderRequest;
 import com.peerislands.orderprocessingsystem.web.dto.OrderItemResponse;
 import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import com.peerislands.orderprocessingsystem.web.dto.OrderTicketResponse;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -25,6 +28,35 @@ public class OrderMapper {
 
     public OrderResponse toResponse(Order order) {
         Objects.requireNonNull(order, "Order must not be null");
+        return toResponse(order, order.getCreatedAt(), order.getUpdatedAt());
+    }
+
+    /**
+     * Maps an order that is accepted but not persisted yet, such as a journaled one, stamping it with the time it was
+     * accepted.
+     */
+    public OrderResponse toResponse(Order order, Instant acceptedAt) {
+        Objects.requireNonNull(order, "Order must not be null");
+        return toResponse(order, acceptedAt, acceptedAt);
+    }
+
+    public List<OrderResponse> toResponse(List<Order> orders) {
+        return orders.stream().map(this::toResponse).toList();
+    }
+
+    public OrderTicketResponse toTicketResponse(OrderTicket ticket) {
+        Objects.requireNonNull(ticket, "OrderTicket must not be null");
+        return new OrderTicketResponse(
+            ticket.getTicketId(),
+            ticket.getStatus(),
+            ticket.getOrderNumber(),
+            ticket.getRejectionReason(),
+            ticket.getCreatedAt(),
+            ticket.getUpdatedAt()
+        );
+    }
+
+    private OrderResponse toResponse(Order order, Instant createdAt, Instant updatedAt) {
         List<OrderItemResponse> itemResponses = order.getItems().stream()
             .map(this::toOrderItemResponse)
             .toList();
@@ -35,16 +67,12 @@ public class OrderMapper {
             order.getShippingAddress(),
             order.getStatus(),
             order.getTotalAmount(),
-            order.getCreatedAt(),
-            order.getUpdatedAt(),
+            createdAt,
+            updatedAt,
             itemResponses
         );
     }
 
-    public List<OrderResponse> toResponse(List<Order> orders) {
-        return orders.stream().map(this::toResponse).toList();
-    }
-
     private OrderItemResponse toOrderItemResponse(OrderItem item) {
         return new OrderItemResponse(
             item.getId(),
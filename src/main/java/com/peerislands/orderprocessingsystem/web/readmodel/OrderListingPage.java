@@ -0,0 +1,17 @@
+package com.peerislands.orderprocessingsystem.web.readmodel;
+
+import com.peerislands.orderprocessingsystem.service.query.OrderCursor;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import java.util.List;
+
+/**
+ * One page of listed orders, already in response form.
+ *
+ * @param nextCursor position after the last order, or {@code null} when this is the last page
+ */
+public record OrderListingPage(List<OrderResponse> orders, OrderCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
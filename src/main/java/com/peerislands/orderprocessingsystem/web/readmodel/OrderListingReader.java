@@ -0,0 +1,166 @@
+package com.peerislands.orderprocessingsystem.web.readmodel;
+
+import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.service.query.OrderCursor;
+import com.peerislands.orderprocessingsystem.web.dto.OrderItemResponse;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimeZone;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read model for order listings. Builds {@link OrderResponse}s straight from one joined JDBC result set, bypassing
+ * the persistence context: no entities are hydrated, snapshotted for dirty checking or mapped a second time.
+ * <p>
+ * Orders are paged by keyset on {@code (created_at, id)} in a derived table and joined to their items afterwards, so
+ * the page limit applies to orders rather than rows. The {@link OrderListingView#SUMMARY} view skips the join.
+ */
+@Component
+public class OrderListingReader {
+
+    // Timestamps are written in UTC (hibernate.jdbc.time_zone), so they are read and bound in UTC too.
+    private static final ThreadLocal<Calendar> UTC = ThreadLocal.withInitial(() -> Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+
+    private static final String ORDER_COLUMNS = """
+        o.id, o.order_number, o.customer_name, o.customer_email, o.shipping_address,
+        o.status, o.total_amount, o.created_at, o.updated_at""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OrderListingReader(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public OrderListingPage readPage(Optional<OrderStatus> statusFilter, Optional<OrderCursor> after, int limit, OrderListingView view) {
+        if (limit <= 0) {
+            throw new InvalidOrderStateException("Page size must be greater than zero");
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit + 1);
+        StringBuilder where = new StringBuilder("1 = 1");
+        statusFilter.ifPresent(status -> {
+            where.append(" and p.status = :status");
+            parameters.addValue("status", status.name());
+        });
+        after.ifPresent(cursor -> {
+            where.append(" and (p.created_at > :afterCreatedAt or (p.created_at = :afterCreatedAt and p.id > :afterId))");
+            parameters.addValue("afterCreatedAt", utcTimestamp(cursor.createdAt()));
+            parameters.addValue("afterId", cursor.id());
+        });
+        // One extra order tells us whether another page exists without a second round-trip.
+        String page = "select p.id from orders p where " + where + " order by p.created_at, p.id limit :limit";
+
+        Rows rows = new Rows(view == OrderListingView.FULL);
+        if (view == OrderListingView.FULL) {
+            jdbcTemplate.query("""
+                select %s,
+                       i.id as item_id, i.product_code, i.product_name, i.quantity, i.unit_price, i.line_total
+                  from (%s) paged
+                  join orders o on o.id = paged.id
+                  left join order_items i on i.order_id = o.id
+                 order by o.created_at, o.id, i.id
+                """.formatted(ORDER_COLUMNS, page), parameters, (RowCallbackHandler) rows::accept);
+        } else {
+            jdbcTemplate.query("""
+                select %s
+                  from (%s) paged
+                  join orders o on o.id = paged.id
+                 order by o.created_at, o.id
+                """.formatted(ORDER_COLUMNS, page), parameters, (RowCallbackHandler) rows::accept);
+        }
+        return rows.toPage(limit);
+    }
+
+    private static SqlTypeValue utcTimestamp(Instant instant) {
+        return (statement, index, sqlType, typeName) -> statement.setTimestamp(index, Timestamp.from(instant), UTC.get());
+    }
+
+    private static Instant readInstant(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column, UTC.get());
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    /**
+     * Folds joined rows into responses. Rows arrive grouped by order, so an order is complete as soon as the next
+     * one starts.
+     */
+    private static final class Rows {
+
+        private final boolean withItems;
+        private final List<OrderResponse> orders = new ArrayList<>();
+        private long currentId;
+        private Instant currentCreatedAt;
+        private OrderResponse current;
+        private List<OrderItemResponse> currentItems;
+        private OrderCursor lastCursor;
+        private OrderCursor previousCursor;
+
+        private Rows(boolean withItems) {
+            this.withItems = withItems;
+        }
+
+        void accept(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (current == null || id != currentId) {
+                finishCurrent();
+                currentId = id;
+                currentCreatedAt = readInstant(rs, "created_at");
+                currentItems = withItems ? new ArrayList<>() : null;
+                current = new OrderResponse(
+                    rs.getString("order_number"),
+                    rs.getString("customer_name"),
+                    rs.getString("customer_email"),
+                    rs.getString("shipping_address"),
+                    OrderStatus.valueOf(rs.getString("status")),
+                    rs.getBigDecimal("total_amount"),
+                    currentCreatedAt,
+                    readInstant(rs, "updated_at"),
+                    currentItems
+                );
+            }
+            if (withItems) {
+                long itemId = rs.getLong("item_id");
+                if (!rs.wasNull()) {
+                    currentItems.add(new OrderItemResponse(
+                        itemId,
+                        rs.getString("product_code"),
+                        rs.getString("product_name"),
+                        rs.getInt("quantity"),
+                        rs.getBigDecimal("unit_price"),
+                        rs.getBigDecimal("line_total")
+                    ));
+                }
+            }
+        }
+
+        OrderListingPage toPage(int limit) {
+            finishCurrent();
+            if (orders.size() <= limit) {
+                return new OrderListingPage(orders, null);
+            }
+            // Drop the look-ahead order; the cursor points at the last order actually returned.
+            orders.remove(orders.size() - 1);
+            return new OrderListingPage(orders, previousCursor);
+        }
+
+        private void finishCurrent() {
+            if (current != null) {
+                orders.add(current);
+                previousCursor = lastCursor;
+                lastCursor = new OrderCursor(currentCreatedAt, currentId);
+                current = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.peerislands.orderprocessingsystem.web.readmodel;
+
+import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
+import java.util.Locale;
+
+/**
+ * Shape of listed orders, chosen with the {@code fields} request parameter.
+ */
+public enum OrderListingView {
+    /** Orders with their items. */
+    FULL,
+    /** Order header only; items are neither read nor serialized. */
+    SUMMARY;
+
+    public static OrderListingView fromParameter(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(fields.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidOrderStateException("Unsupported fields value '%s'; expected 'full' or 'summary'".formatted(fields));
+        }
+    }
+}
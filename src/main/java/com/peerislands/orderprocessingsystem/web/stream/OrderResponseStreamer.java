@@ -0,0 +1,102 @@
+package com.peerislands.orderprocessingsystem.web.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peerislands.orderprocessingsystem.config.OrderListingProperties;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.service.query.OrderCursor;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingPage;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingReader;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingView;
+import java.io.IOException;
+import java.util.Optional;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes order listings straight to the response, one keyset batch at a time, so that memory use
+ * stays bounded by the batch size rather than by the size of the table.
+ */
+@Component
+public class OrderResponseStreamer {
+
+    private final OrderListingReader orderListingReader;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final OrderListingProperties properties;
+
+    public OrderResponseStreamer(
+        OrderListingReader orderListingReader,
+        ObjectMapper objectMapper,
+        MappingJackson2CborHttpMessageConverter cborConverter,
+        OrderListingProperties properties
+    ) {
+        this.orderListingReader = orderListingReader;
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.properties = properties;
+    }
+
+    /**
+     * Streams the listing as a single JSON array, matching the shape of the non-streaming response.
+     */
+    public StreamingResponseBody jsonArray(Optional<OrderStatus> statusFilter, OrderListingView view) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                writeBatches(statusFilter, view, generator, false);
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    /**
+     * Streams the listing as one CBOR array of indefinite length, so it can be written before the order count is known.
+     */
+    public StreamingResponseBody cborArray(Optional<OrderStatus> statusFilter, OrderListingView view) {
+        return outputStream -> {
+            try (JsonGenerator generator = cborMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                writeBatches(statusFilter, view, generator, false);
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    /**
+     * Streams the listing as newline-delimited JSON, one order per line.
+     */
+    public StreamingResponseBody ndjson(Optional<OrderStatus> statusFilter, OrderListingView view) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                writeBatches(statusFilter, view, generator, true);
+            }
+        };
+    }
+
+    private void writeBatches(
+        Optional<OrderStatus> statusFilter,
+        OrderListingView view,
+        JsonGenerator generator,
+        boolean lineDelimited
+    ) throws IOException {
+        Optional<OrderCursor> cursor = Optional.empty();
+        do {
+            // Each batch is a single query, so no connection is held while the client reads.
+            OrderListingPage page = orderListingReader.readPage(statusFilter, cursor, properties.batchSize(), view);
+            for (OrderResponse order : page.orders()) {
+                generator.writeObject(order);
+                if (lineDelimited) {
+                    generator.writeRaw('\n');
+                }
+            }
+            generator.flush();
+            cursor = Optional.ofNullable(page.nextCursor());
+        } while (cursor.isPresent());
+    }
+}
@@ -0,0 +1,208 @@
+package com.peerislands.orderprocessingsystem.web.stream;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderSubscriptionProperties;
+import com.peerislands.orderprocessingsystem.domain.exception.SubscriptionLimitExceededException;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.service.event.OrderStatusChangedEvent;
+import com.peerislands.orderprocessingsystem.web.dto.OrderStatusUpdate;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * In-memory fan-out of committed status changes to Server-Sent Events subscribers, keyed by order number. An idle
+ * subscription is an async request parked in the servlet container plus a registry entry: it holds no thread and
+ * costs no database queries.
+ * <p>
+ * Publishers never block on clients. Each subscriber has a bounded buffer drained by a small delivery pool; a client
+ * that falls {@code orders.subscriptions.buffer-size} events behind is sent a {@code resync} event and disconnected,
+ * and is expected to re-read the order and subscribe again. Only changes committed on this node are delivered.
+ */
+@Component
+public class OrderStatusSubscriptions {
+
+    private static final String STATUS_EVENT = "status";
+    private static final String RESYNC_EVENT = "resync";
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Executor deliveryExecutor;
+    private final OrderSubscriptionProperties properties;
+
+    public OrderStatusSubscriptions(BackgroundTaskExecutors backgroundTaskExecutors, OrderSubscriptionProperties properties) {
+        this.deliveryExecutor = backgroundTaskExecutors.create("order-sse-", Math.max(1, properties.deliveryThreads()));
+        this.properties = properties;
+    }
+
+    /**
+     * Opens a subscription. The subscriber is registered before {@code currentStatus} is read, so a change that
+     * commits in between is not lost. Changes that arrive before the read finishes are held back; the current status
+     * is always sent first, and only changes to a later status follow it, so an event the snapshot already reflects
+     * is not sent again. Subscriptions to orders that are already terminal receive the current status and are closed.
+     */
+    public SseEmitter subscribe(String orderNumber, Supplier<OrderStatus> currentStatus) {
+        if (subscriberCount.incrementAndGet() > properties.maxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new SubscriptionLimitExceededException(properties.maxSubscribers());
+        }
+        Subscriber subscriber = new Subscriber(orderNumber, new SseEmitter(properties.timeout().toMillis()), properties.bufferSize());
+        subscribers.compute(orderNumber, (key, listeners) -> {
+            Set<Subscriber> registered = listeners != null ? listeners : ConcurrentHashMap.newKeySet();
+            registered.add(subscriber);
+            return registered;
+        });
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+        subscriber.emitter.onError(error -> remove(subscriber));
+
+        OrderStatus status;
+        try {
+            status = currentStatus.get();
+        } catch (RuntimeException ex) {
+            remove(subscriber);
+            throw ex;
+        }
+        synchronized (subscriber) {
+            subscriber.lastStatus = status;
+            enqueue(subscriber, statusEvent(new OrderStatusUpdate(orderNumber, null, status, Instant.now())), status.isTerminal());
+            subscriber.heldBack.forEach(update -> sendIfLater(subscriber, update));
+            subscriber.heldBack = null;
+        }
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        Set<Subscriber> listeners = subscribers.get(event.orderNumber());
+        if (listeners == null) {
+            return;
+        }
+        OrderStatusUpdate update = new OrderStatusUpdate(event.orderNumber(), event.previousStatus(), event.status(), event.occurredAt());
+        for (Subscriber subscriber : listeners) {
+            synchronized (subscriber) {
+                if (subscriber.heldBack != null) {
+                    subscriber.heldBack.add(update);
+                } else {
+                    sendIfLater(subscriber, update);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.subscriptions.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        subscribers.values().forEach(listeners -> listeners.forEach(subscriber ->
+            enqueue(subscriber, SseEmitter.event().comment("keep-alive"), false)
+        ));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private static SseEmitter.SseEventBuilder statusEvent(OrderStatusUpdate update) {
+        return SseEmitter.event().name(STATUS_EVENT).data(update);
+    }
+
+    /**
+     * Sends {@code update} unless the subscriber has already been told about its status or a later one, which also
+     * drops changes whose commit listeners run out of order. Callers hold the subscriber's monitor.
+     */
+    private void sendIfLater(Subscriber subscriber, OrderStatusUpdate update) {
+        if (!update.status().isAfter(subscriber.lastStatus)) {
+            return;
+        }
+        subscriber.lastStatus = update.status();
+        enqueue(subscriber, statusEvent(update), update.status().isTerminal());
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event, boolean last) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(new Delivery(event, last))) {
+            // Too far behind: drop what it has not read and make it re-fetch instead of holding back the publisher.
+            subscriber.buffer.clear();
+            subscriber.buffer.offer(new Delivery(SseEmitter.event().name(RESYNC_EVENT).data(subscriber.orderNumber), true));
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            deliveryExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Delivery delivery;
+            while ((delivery = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(delivery.event());
+                if (delivery.last()) {
+                    subscriber.emitter.complete();
+                    remove(subscriber);
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the emitter already completed.
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscriber.buffer.clear();
+        subscribers.computeIfPresent(subscriber.orderNumber, (orderNumber, listeners) -> {
+            listeners.remove(subscriber);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    private record Delivery(SseEmitter.SseEventBuilder event, boolean last) {
+    }
+
+    private static final class Subscriber {
+
+        private final String orderNumber;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Delivery> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // Guarded by the subscriber's monitor; heldBack is null once the current status has been sent.
+        private OrderStatus lastStatus;
+        private List<OrderStatusUpdate> heldBack = new ArrayList<>();
+
+        private Subscriber(String orderNumber, SseEmitter emitter, int bufferSize) {
+            this.orderNumber = orderNumber;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE inventory_items (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_code      VARCHAR(100) NOT NULL,
+    product_name      VARCHAR(255) NOT NULL,
+    stock_on_hand     INTEGER      NOT NULL,
+    reserved_quantity INTEGER      NOT NULL,
+    version           BIGINT       NOT NULL,
+    CONSTRAINT uk_inventory_items_product_code UNIQUE (product_code)
+);
+
+CREATE TABLE orders (
+    id               BIGINT         NOT NULL PRIMARY KEY,
+    order_number     VARCHAR(40)    NOT NULL,
+    customer_name    VARCHAR(150)   NOT NULL,
+    customer_email   VARCHAR(180)   NOT NULL,
+    shipping_address VARCHAR(500)   NOT NULL,
+    status           VARCHAR(20)    NOT NULL,
+    total_amount     NUMERIC(15, 2) NOT NULL,
+    created_at       TIMESTAMP(6)   NOT NULL,
+    updated_at       TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number)
+);
+
+CREATE TABLE order_items (
+    id           BIGINT         NOT NULL PRIMARY KEY,
+    order_id     BIGINT         NOT NULL,
+    product_code VARCHAR(100)   NOT NULL,
+    product_name VARCHAR(255)   NOT NULL,
+    quantity     INTEGER        NOT NULL,
+    unit_price   NUMERIC(15, 2) NOT NULL,
+    line_total   NUMERIC(15, 2) NOT NULL,
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+CREATE TABLE order_outbox (
+    id              BIGINT       NOT NULL PRIMARY KEY,
+    sequence_number BIGINT,
+    change_type     VARCHAR(20)  NOT NULL,
+    order_id        BIGINT       NOT NULL,
+    order_number    VARCHAR(40)  NOT NULL,
+    previous_status VARCHAR(20),
+    status          VARCHAR(20)  NOT NULL,
+    occurred_at     TIMESTAMP(6) NOT NULL,
+    published_at    TIMESTAMP(6)
+);
+
+CREATE UNIQUE INDEX idx_order_outbox_sequence ON order_outbox (sequence_number);
+CREATE INDEX idx_order_outbox_published_at ON order_outbox (published_at);
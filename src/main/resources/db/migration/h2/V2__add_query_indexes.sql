@@ -0,0 +1,9 @@
+-- Status filters, the promotion claim and status-filtered keyset pages.
+CREATE INDEX idx_orders_status_created_at ON orders (status, created_at, id);
+
+-- Unfiltered keyset pages and the per-day statistics.
+CREATE INDEX idx_orders_created_at ON orders (created_at, id);
+
+-- Item fetches by order and per-product quantity sums.
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
+CREATE INDEX idx_order_items_product_code ON order_items (product_code, quantity);
@@ -0,0 +1,5 @@
+INSERT INTO inventory_items (product_code, product_name, stock_on_hand, reserved_quantity, version)
+VALUES ('SKU-123', 'Wireless Mouse', 100, 0, 0);
+
+INSERT INTO inventory_items (product_code, product_name, stock_on_hand, reserved_quantity, version)
+VALUES ('SKU-999', 'Mechanical Keyboard', 50, 0, 0);
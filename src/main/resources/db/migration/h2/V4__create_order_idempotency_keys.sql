@@ -0,0 +1,10 @@
+CREATE TABLE order_idempotency_keys (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    idempotency_key VARCHAR(100) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    order_number    VARCHAR(40)  NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_order_idempotency_keys_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX idx_order_idempotency_keys_created_at ON order_idempotency_keys (created_at);
@@ -0,0 +1,4 @@
+ALTER TABLE orders ADD COLUMN reserved_until TIMESTAMP(6);
+
+-- Expiry claims walk pending orders by deadline; the column is cleared once an order leaves PENDING.
+CREATE INDEX idx_orders_reserved_until ON orders (reserved_until, id);
@@ -0,0 +1,14 @@
+-- Staging table for orders accepted with 202; a ticket stays QUEUED until a worker creates or rejects its order.
+CREATE TABLE order_tickets (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ticket_id        VARCHAR(36)  NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    request_payload  CLOB         NOT NULL,
+    order_number     VARCHAR(40),
+    rejection_reason VARCHAR(500),
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_order_tickets_ticket_id UNIQUE (ticket_id)
+);
+
+CREATE INDEX idx_order_tickets_status_updated_at ON order_tickets (status, updated_at, id);
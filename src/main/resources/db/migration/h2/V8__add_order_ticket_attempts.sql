@@ -0,0 +1,2 @@
+-- Failed processing attempts of a queued ticket; it is marked FAILED once orders.tickets.max-attempts is reached.
+ALTER TABLE order_tickets ADD COLUMN attempts INT DEFAULT 0 NOT NULL;
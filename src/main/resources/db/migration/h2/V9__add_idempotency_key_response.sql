@@ -0,0 +1,2 @@
+-- Response sent for the key's first request, replayed as-is to retries.
+ALTER TABLE order_idempotency_keys ADD COLUMN response_body CLOB;
@@ -0,0 +1,68 @@
+-- MySQL has no sequences; Hibernate emulates orders_seq, order_items_seq and order_outbox_seq with one-row tables.
+CREATE TABLE orders_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO orders_seq VALUES (1);
+
+CREATE TABLE order_items_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO order_items_seq VALUES (1);
+
+CREATE TABLE order_outbox_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO order_outbox_seq VALUES (1);
+
+CREATE TABLE inventory_items (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    product_code      VARCHAR(100) NOT NULL,
+    product_name      VARCHAR(255) NOT NULL,
+    stock_on_hand     INT          NOT NULL,
+    reserved_quantity INT          NOT NULL,
+    version           BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_inventory_items_product_code UNIQUE (product_code)
+) ENGINE = InnoDB;
+
+CREATE TABLE orders (
+    id               BIGINT         NOT NULL,
+    order_number     VARCHAR(40)    NOT NULL,
+    customer_name    VARCHAR(150)   NOT NULL,
+    customer_email   VARCHAR(180)   NOT NULL,
+    shipping_address VARCHAR(500)   NOT NULL,
+    status           VARCHAR(20)    NOT NULL,
+    total_amount     DECIMAL(15, 2) NOT NULL,
+    created_at       DATETIME(6)    NOT NULL,
+    updated_at       DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number)
+) ENGINE = InnoDB;
+
+CREATE TABLE order_items (
+    id           BIGINT         NOT NULL,
+    order_id     BIGINT         NOT NULL,
+    product_code VARCHAR(100)   NOT NULL,
+    product_name VARCHAR(255)   NOT NULL,
+    quantity     INT            NOT NULL,
+    unit_price   DECIMAL(15, 2) NOT NULL,
+    line_total   DECIMAL(15, 2) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_order_items_order_id (order_id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE order_outbox (
+    id              BIGINT      NOT NULL,
+    sequence_number BIGINT,
+    change_type     VARCHAR(20) NOT NULL,
+    order_id        BIGINT      NOT NULL,
+    order_number    VARCHAR(40) NOT NULL,
+    previous_status VARCHAR(20),
+    status          VARCHAR(20) NOT NULL,
+    occurred_at     DATETIME(6) NOT NULL,
+    published_at    DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_order_outbox_sequence (sequence_number),
+    KEY idx_order_outbox_published_at (published_at)
+) ENGINE = InnoDB;
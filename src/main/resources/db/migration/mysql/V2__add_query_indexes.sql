@@ -0,0 +1,8 @@
+-- Status filters, the promotion claim and status-filtered keyset pages.
+CREATE INDEX idx_orders_status_created_at ON orders (status, created_at, id);
+
+-- Unfiltered keyset pages and the per-day statistics.
+CREATE INDEX idx_orders_created_at ON orders (created_at, id);
+
+-- Per-product quantity sums. order_items(order_id) is already indexed through its foreign key.
+CREATE INDEX idx_order_items_product_code ON order_items (product_code, quantity);
@@ -0,0 +1,10 @@
+CREATE TABLE order_idempotency_keys (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    idempotency_key VARCHAR(100) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    order_number    VARCHAR(40)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_order_idempotency_keys_key UNIQUE (idempotency_key),
+    KEY idx_order_idempotency_keys_created_at (created_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- Expiry claims walk pending orders by deadline; the column is cleared once an order leaves PENDING.
+ALTER TABLE orders
+    ADD COLUMN reserved_until DATETIME(6) NULL,
+    ADD INDEX idx_orders_reserved_until (reserved_until, id);
@@ -0,0 +1,14 @@
+-- Staging table for orders accepted with 202; a ticket stays QUEUED until a worker creates or rejects its order.
+CREATE TABLE order_tickets (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    ticket_id        VARCHAR(36)  NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    request_payload  MEDIUMTEXT   NOT NULL,
+    order_number     VARCHAR(40)  NULL,
+    rejection_reason VARCHAR(500) NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    updated_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_order_tickets_ticket_id UNIQUE (ticket_id),
+    KEY idx_order_tickets_status_updated_at (status, updated_at, id)
+) ENGINE = InnoDB;
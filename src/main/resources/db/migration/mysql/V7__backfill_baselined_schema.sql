@@ -0,0 +1,37 @@
+-- Schemas created by ddl-auto=update are baselined at version 1, so V1 never ran on them. Create what it would have
+-- created and is missing there. Every statement is a no-op on a schema V1 did create.
+CREATE TABLE IF NOT EXISTS orders_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO orders_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM orders_seq);
+
+CREATE TABLE IF NOT EXISTS order_items_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO order_items_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM order_items_seq);
+
+CREATE TABLE IF NOT EXISTS order_outbox_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO order_outbox_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM order_outbox_seq);
+
+CREATE TABLE IF NOT EXISTS order_outbox (
+    id              BIGINT      NOT NULL,
+    sequence_number BIGINT,
+    change_type     VARCHAR(20) NOT NULL,
+    order_id        BIGINT      NOT NULL,
+    order_number    VARCHAR(40) NOT NULL,
+    previous_status VARCHAR(20),
+    status          VARCHAR(20) NOT NULL,
+    occurred_at     DATETIME(6) NOT NULL,
+    published_at    DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_order_outbox_sequence (sequence_number),
+    KEY idx_order_outbox_published_at (published_at)
+) ENGINE = InnoDB;
+
+-- Hibernate's pooled optimizer (allocationSize = 50) hands out the 50 ids ending at the value it reads, so next_val
+-- must be at least max(id) + 50 for the first block to start above the existing rows.
+UPDATE orders_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM orders));
+UPDATE order_items_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM order_items));
+UPDATE order_outbox_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM order_outbox));
@@ -0,0 +1,116 @@
+package com.peerislands.orderprocessingsystem.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the long-based arithmetic against the {@link BigDecimal} computation it replaced, over generated prices and
+ * quantities. Results must be equal including scale, not just numerically.
+ */
+class MoneyTest {
+
+    private static final long SEED = 20250101L;
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void lineTotal_matchesBigDecimalArithmeticForGeneratedPrices() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal unitPrice = randomPrice(random);
+            int quantity = random.nextInt(1, 100_000);
+
+            assertThat(Money.lineTotal(unitPrice, quantity).toBigDecimal())
+                .as("%s x %d", unitPrice, quantity)
+                .isEqualTo(referenceLineTotal(unitPrice, quantity));
+        }
+    }
+
+    @Test
+    void lineTotal_roundsHalfUpAtTiesAndFallsBackWhenIntermediatesOverflow() {
+        assertThat(Money.lineTotal(new BigDecimal("0.005"), 1).toBigDecimal()).isEqualTo(new BigDecimal("0.01"));
+        assertThat(Money.lineTotal(new BigDecimal("0.0049999"), 1).toBigDecimal()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(Money.lineTotal(new BigDecimal("-0.005"), 1).toBigDecimal()).isEqualTo(new BigDecimal("-0.01"));
+        assertThat(Money.lineTotal(new BigDecimal("1E+3"), 7).toBigDecimal()).isEqualTo(new BigDecimal("7000.00"));
+
+        // 30 decimals overflow the long path but round to an ordinary amount.
+        BigDecimal finePrice = new BigDecimal("1.234999999999999999999999999999");
+        assertThat(Money.lineTotal(finePrice, 3).toBigDecimal()).isEqualTo(referenceLineTotal(finePrice, 3));
+
+        BigDecimal hugePrice = new BigDecimal(BigInteger.TEN.pow(17));
+        assertThatThrownBy(() -> Money.lineTotal(hugePrice, 1_000)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void orderTotal_matchesBigDecimalSumOfLineTotals() {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        for (int i = 0; i < 2_000; i++) {
+            Order order = new Order("ORD-20250101-000001", "Jane Doe", "jane.doe@example.com", "221B Baker Street, London");
+            List<BigDecimal> lineTotals = new ArrayList<>();
+            int lines = random.nextInt(1, 300);
+            for (int line = 0; line < lines; line++) {
+                BigDecimal unitPrice = randomPrice(random);
+                int quantity = random.nextInt(1, 1_000);
+                order.addItem(new OrderItem("SKU-" + line, "Product " + line, quantity, unitPrice));
+                lineTotals.add(referenceLineTotal(unitPrice, quantity));
+            }
+
+            BigDecimal expected = lineTotals.stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(2, RoundingMode.HALF_UP);
+            assertThat(order.getTotalAmount()).isEqualTo(expected);
+            assertThat(order.getItems()).extracting(OrderItem::getLineTotal).isEqualTo(lineTotals);
+        }
+    }
+
+    @Test
+    void arithmetic_throwsInsteadOfOverflowing() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofMinorUnits(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinorUnits(Long.MIN_VALUE).minus(Money.ofMinorUnits(1)))
+            .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1.005"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void converter_roundTripsColumnValues() {
+        MoneyConverter converter = new MoneyConverter();
+        SplittableRandom random = new SplittableRandom(SEED + 2);
+        for (int i = 0; i < 10_000; i++) {
+            // DECIMAL(15, 2) holds up to 13 integer digits.
+            BigDecimal column = BigDecimal.valueOf(random.nextLong(-999_999_999_999_999L, 1_000_000_000_000_000L), 2);
+            assertThat(converter.convertToDatabaseColumn(converter.convertToEntityAttribute(column))).isEqualTo(column);
+        }
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("12.5"))).isEqualTo(Money.ofMinorUnits(1250));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    /**
+     * Prices with 0 to 6 decimals, weighted towards the two-decimal prices requests normally carry, with half-cent ties
+     * appearing often.
+     */
+    private static BigDecimal randomPrice(SplittableRandom random) {
+        int scale = random.nextInt(4) == 0 ? random.nextInt(7) : 2;
+        long unscaled = random.nextInt(10) == 0
+            ? random.nextLong(1, 10_000_000_000L)
+            : random.nextLong(1, 100_000);
+        if (scale > 2 && random.nextBoolean()) {
+            // Land exactly on a half cent.
+            long halfCent = 5 * BigInteger.TEN.pow(scale - 3).longValueExact();
+            unscaled = (unscaled / (halfCent * 2)) * halfCent * 2 + halfCent;
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private static BigDecimal referenceLineTotal(BigDecimal unitPrice, int quantity) {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
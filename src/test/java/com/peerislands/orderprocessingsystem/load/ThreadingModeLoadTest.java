@@ -0,0 +1,233 @@
+package com.peerislands.orderprocessingsystem.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.peerislands.orderprocessingsystem.OrderProcessingSystemApplication;
+import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
+import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Drives the same order-creation workload against the application in platform-thread and virtual-thread mode and
+ * reports p99 latency and the maximum number of requests the server had in flight at once.
+ * <p>
+ * Not part of the regular build. Run with {@code ./mvnw -Pjava21 test -Dtest=ThreadingModeLoadTest -Dloadtest=true};
+ * on Java 17 only the platform-thread mode is measured.
+ */
+@Tag("load")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ThreadingModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingModeLoadTest.class);
+
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+
+    private static final String ORDER_JSON = """
+        {
+          "customerName": "Load Test",
+          "customerEmail": "load@example.com",
+          "shippingAddress": "1 Benchmark Way",
+          "items": [
+            {"productCode": "LOAD-1", "productName": "Load Widget", "quantity": 1, "unitPrice": 10.00},
+            {"productCode": "LOAD-2", "productName": "Load Gadget", "quantity": 1, "unitPrice": 5.00}
+          ]
+        }
+        """;
+
+    @Test
+    void comparesPlatformAndVirtualThreadModes() throws Exception {
+        LoadResult platform = run(false);
+        log.info("platform threads: {}", platform);
+        assertThat(platform.failures()).isZero();
+
+        if (Runtime.version().feature() >= 21) {
+            LoadResult virtual = run(true);
+            log.info("virtual threads:  {}", virtual);
+            assertThat(virtual.failures()).isZero();
+        } else {
+            log.info("virtual threads:  skipped, requires Java 21 (running {})", Runtime.version());
+        }
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OrderProcessingSystemApplication.class, InFlightConfiguration.class)
+            .profiles("h2")
+            .properties(
+                "server.port=0",
+                "server.tomcat.threads.max=50",
+                "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "database.concurrency.enabled=true",
+                "database.concurrency.max-concurrent=10",
+                "database.concurrency.acquire-timeout=30s",
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "orders.promotion.event-driven=false"
+            )
+            .run()) {
+            InventoryRepository inventory = context.getBean(InventoryRepository.class);
+            inventory.save(new InventoryItem("LOAD-1", "Load Widget", REQUESTS * 2));
+            inventory.save(new InventoryItem("LOAD-2", "Load Gadget", REQUESTS * 2));
+
+            InFlightFilter inFlight = context.getBean(InFlightFilter.class);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            return drive(URI.create("http://localhost:" + port + "/api/v1/orders"), inFlight);
+        }
+    }
+
+    private LoadResult drive(URI uri, InFlightFilter inFlight) throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(16);
+        try {
+            HttpClient client = HttpClient.newBuilder().executor(clientExecutor).connectTimeout(Duration.ofSeconds(10)).build();
+            Semaphore outstanding = new Semaphore(CONCURRENCY);
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>(REQUESTS));
+            AtomicInteger failures = new AtomicInteger();
+            List<CompletableFuture<?>> calls = new ArrayList<>(REQUESTS);
+
+            long started = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                outstanding.acquire();
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(ORDER_JSON))
+                    .build();
+                long sent = System.nanoTime();
+                calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                    latencies.add(System.nanoTime() - sent);
+                    if (error != null || response.statusCode() != 201) {
+                        failures.incrementAndGet();
+                    }
+                    outstanding.release();
+                }));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return new LoadResult(
+                REQUESTS,
+                failures.get(),
+                Duration.ofNanos(percentile(sorted, 0.50)),
+                Duration.ofNanos(percentile(sorted, 0.99)),
+                inFlight.maxInFlight(),
+                elapsed
+            );
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    record LoadResult(int requests, int failures, Duration p50, Duration p99, int maxInFlight, Duration elapsed) {
+
+        @Override
+        public String toString() {
+            return "requests=%d failures=%d p50=%dms p99=%dms maxInFlight=%d throughput=%.0f req/s".formatted(
+                requests, failures, p50.toMillis(), p99.toMillis(), maxInFlight, requests / (elapsed.toNanos() / 1e9)
+            );
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class InFlightConfiguration {
+
+        @Bean
+        InFlightFilter inFlightFilter() {
+            return new InFlightFilter();
+        }
+    }
+
+    /**
+     * Counts requests that have entered the servlet pipeline but not yet completed. Streamed listings finish on
+     * an async dispatch, so those requests are only counted out once the async cycle completes.
+     */
+    static class InFlightFilter extends OncePerRequestFilter {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            boolean async = false;
+            try {
+                chain.doFilter(request, response);
+                if (request.isAsyncStarted()) {
+                    request.getAsyncContext().addListener(new CompletionListener());
+                    async = true;
+                }
+            } finally {
+                if (!async) {
+                    current.decrementAndGet();
+                }
+            }
+        }
+
+        int maxInFlight() {
+            return max.get();
+        }
+
+        /**
+         * The container always calls {@code onComplete} last, including after a timeout or an error.
+         */
+        private final class CompletionListener implements AsyncListener {
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+                current.decrementAndGet();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                event.getAsyncContext().addListener(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.peerislands.orderprocessingsystem.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs {@code EXPLAIN} for the SQL behind each repository and read-model query and fails if any table is read with a
+ * full scan, so that a dropped index or a rewritten query shows up in the build rather than in production.
+ * <p>
+ * The statements mirror the generated or native SQL with representative literals; keep them in step when a query
+ * changes. Queries that read every row by design ({@code OrderRepository.findAll}, the statistics seed queries
+ * {@code sumTotalsByStatus} and {@code sumItemQuantitiesByProduct}, and {@code InventoryRepository.findAllAvailability})
+ * are left out.
+ * <p>
+ * The MySQL variant runs against a migrated database holding representative data when {@code queryplan.mysql.url}
+ * is set, e.g. {@code ./mvnw test -Dtest=QueryPlanTest -Dqueryplan.mysql.url=jdbc:mysql://localhost:3306/orders
+ * -Dqueryplan.mysql.username=root -Dqueryplan.mysql.password=...}. MySQL prefers full scans on tiny tables, so an
+ * empty schema is not a meaningful target.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class QueryPlanTest {
+
+    private static final String SINCE = "TIMESTAMP '2024-01-01 00:00:00'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+            Arguments.of("OrderRepository.findByOrderNumber", """
+                select o.id, i.id from orders o left join order_items i on i.order_id = o.id
+                 where o.order_number = 'ORD-20240101-000001'
+                """),
+            Arguments.of("OrderRepository.findForUpdateByOrderNumber", """
+                select id from orders where order_number = 'ORD-20240101-000001' for update
+                """),
+            Arguments.of("OrderRepository.findStatusByOrderNumber", """
+                select status from orders where order_number = 'ORD-20240101-000001'
+                """),
+            Arguments.of("OrderRepository.findExistingOrderNumbers", """
+                select order_number from orders where order_number in ('ORD-20240101-000001', 'ORD-20240101-000002')
+                """),
+            Arguments.of("OrderRepository.claimPendingOrderIds", """
+                select id from orders
+                 where status = 'PENDING' and created_at <= %s and id > 0 and mod(id, 2) = 0
+                 order by id limit 500
+                """.formatted(SINCE)),
+            Arguments.of("OrderRepository.claimExpiredOrderIds", """
+                select id from orders
+                 where reserved_until <= %s and status = 'PENDING'
+                 order by reserved_until, id limit 500
+                """.formatted(SINCE)),
+            Arguments.of("OrderRepository.claimExpiredOrderIdsIn", """
+                select id from orders where id in (1, 2, 3) and status = 'PENDING' and reserved_until <= %s order by id
+                """.formatted(SINCE)),
+            Arguments.of("OrderRepository.claimPendingOrderIdsIn", """
+                select id from orders where id in (1, 2, 3) and status = 'PENDING' order by id
+                """),
+            Arguments.of("OrderRepository.findOrderNumbersByIdIn", """
+                select id, order_number, total_amount from orders where id in (1, 2, 3) order by id
+                """),
+            Arguments.of("OrderRepository.sumItemQuantitiesByOrderIds", """
+                select product_code, sum(quantity) from order_items where order_id in (1, 2, 3) group by product_code
+                """),
+            Arguments.of("OrderRepository.sumTotalsByDaySince", """
+                select cast(created_at as date), count(*), sum(cast(total_amount as decimal(38, 2))) from orders
+                 where created_at >= %s
+                 group by cast(created_at as date)
+                """.formatted(SINCE)),
+            Arguments.of("OrderRepository.updateStatusByIds", """
+                update orders set status = 'PROCESSING' where id in (1, 2, 3) and status = 'PENDING'
+                """),
+            Arguments.of("OrderListingReader.readPage", """
+                select o.id, i.id
+                  from (select p.id from orders p where p.status = 'PENDING' order by p.created_at, p.id limit 201) paged
+                  join orders o on o.id = paged.id
+                  left join order_items i on i.order_id = o.id
+                 order by o.created_at, o.id, i.id
+                """),
+            Arguments.of("InventoryRepository.findByProductCode", """
+                select id from inventory_items where product_code = 'SKU-123'
+                """),
+            Arguments.of("InventoryRepository.findAllByProductCodeInForUpdate", """
+                select id from inventory_items where product_code in ('SKU-123', 'SKU-999') order by product_code
+                """),
+            Arguments.of("InventoryRepository.findAvailabilityByProductCodeIn", """
+                select product_code, stock_on_hand - reserved_quantity from inventory_items
+                 where product_code in ('SKU-123', 'SKU-999')
+                """),
+            Arguments.of("InventoryWriteBehind.flush", """
+                update inventory_items set reserved_quantity = reserved_quantity + 1, version = version + 1
+                 where product_code = 'SKU-123'
+                """),
+            Arguments.of("OrderIdempotencyKeyRepository.findByIdempotencyKey", """
+                select order_number from order_idempotency_keys where idempotency_key = 'retry-1'
+                """),
+            Arguments.of("OrderIdempotencyKeyRepository.deleteCreatedBefore", """
+                delete from order_idempotency_keys where created_at < %s
+                """.formatted(SINCE)),
+            Arguments.of("OrderTicketRepository.findByTicketId", """
+                select id from order_tickets where ticket_id = '00000000-0000-0000-0000-000000000000'
+                """),
+            Arguments.of("OrderTicketRepository.findQueuedTicketIds", """
+                select id from order_tickets where status = 'QUEUED' and updated_at < %s order by updated_at, id limit 500
+                """.formatted(SINCE)),
+            Arguments.of("OrderTicketRepository.deleteDecidedBefore", """
+                delete from order_tickets where status in ('CREATED', 'REJECTED') and updated_at < %s
+                """.formatted(SINCE)),
+            Arguments.of("OutboxEventRepository.claimUnpublished", """
+                select id from order_outbox where published_at is null order by id limit 200
+                """),
+            Arguments.of("OutboxEventRepository.findMaxSequence", """
+                select max(sequence_number) from order_outbox
+                """),
+            Arguments.of("OutboxEventRepository.findPublishedAfter", """
+                select id from order_outbox where sequence_number > 100 order by sequence_number limit 100
+                """),
+            Arguments.of("OutboxEventRepository.deletePublishedBefore", """
+                delete from order_outbox where published_at < %s
+                """.formatted(SINCE))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void h2PlanUsesIndexes(String query, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan).as("%s plan:%n%s", query, plan).doesNotContain("tableScan");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    @EnabledIfSystemProperty(named = "queryplan.mysql.url", matches = ".+")
+    void mysqlPlanUsesIndexes(String query, String sql) throws SQLException {
+        try (
+            Connection connection = DriverManager.getConnection(
+                System.getProperty("queryplan.mysql.url"),
+                System.getProperty("queryplan.mysql.username", "root"),
+                System.getProperty("queryplan.mysql.password", "")
+            );
+            Statement statement = connection.createStatement();
+            ResultSet plan = statement.executeQuery("EXPLAIN " + sql)
+        ) {
+            while (plan.next()) {
+                assertThat(plan.getString("type"))
+                    .as("%s reads %s with a full scan", query, plan.getString("table"))
+                    .isNotEqualTo("ALL");
+            }
+        }
+    }
+}
@@ -3,24 +3,70 @@ package com.peerislands.orderprocessingsystem.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderIntakeProperties;
+import com.peerislands.orderprocessingsystem.config.OrderTicketProperties;
+import com.peerislands.orderprocessingsystem.domain.exception.IdempotencyKeyReuseException;
 import com.peerislands.orderprocessingsystem.domain.exception.InsufficientInventoryException;
+import com.peerislands.orderprocessingsystem.domain.exception.IntakeQueueFullException;
 import com.peerislands.orderprocessingsystem.domain.exception.InvalidOrderStateException;
 import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
 import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderChangeType;
 import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.domain.model.OrderTicket;
+import com.peerislands.orderprocessingsystem.domain.model.OrderTicketStatus;
 import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
+import com.peerislands.orderprocessingsystem.repository.OrderIdempotencyKeyRepository;
 import com.peerislands.orderprocessingsystem.repository.OrderRepository;
+import com.peerislands.orderprocessingsystem.repository.OrderTicketRepository;
+import com.peerislands.orderprocessingsystem.repository.OutboxEventRepository;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
 import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.service.command.IdempotencyKey;
+import com.peerislands.orderprocessingsystem.service.command.OrderCreationResult;
+import com.peerislands.orderprocessingsystem.service.intake.OrderIntakePipeline;
+import com.peerislands.orderprocessingsystem.service.inventory.InventoryAvailability;
+import com.peerislands.orderprocessingsystem.service.inventory.InventoryService;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import com.peerislands.orderprocessingsystem.service.outbox.OrderChangeFeed;
+import com.peerislands.orderprocessingsystem.service.outbox.OrderChangeMessage;
+import com.peerislands.orderprocessingsystem.service.outbox.OrderOutboxRelay;
+import com.peerislands.orderprocessingsystem.service.query.OrderCursor;
+import com.peerislands.orderprocessingsystem.service.reservation.ReservationExpirer;
+import com.peerislands.orderprocessingsystem.service.stats.OrderStatistics;
+import com.peerislands.orderprocessingsystem.service.stats.OrderStatsSnapshot;
+import com.peerislands.orderprocessingsystem.service.ticket.OrderTicketService;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingPage;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingReader;
+import com.peerislands.orderprocessingsystem.web.readmodel.OrderListingView;
+import com.peerislands.orderprocessingsystem.web.stream.OrderResponseStreamer;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-@SpringBootTest
+@SpringBootTest(properties = "orders.reservation.enabled=true")
 @ActiveProfiles("h2")
 class OrderServiceIntegrationTest {
 
@@ -33,8 +79,68 @@ class OrderServiceIntegrationTest {
     @Autowired
     private InventoryRepository inventoryRepository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OrderIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @Autowired
+    private OrderChangeFeed orderChangeFeed;
+
+    @Autowired
+    private OrderStatistics orderStatistics;
+
+    @Autowired
+    private OrderListingReader orderListingReader;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReservationExpirer reservationExpirer;
+
+    @Autowired
+    private InventoryAvailability inventoryAvailability;
+
+    @Autowired
+    private OrderMetrics orderMetrics;
+
+    @Autowired
+    private OrderTicketService orderTicketService;
+
+    @Autowired
+    private OrderTicketRepository orderTicketRepository;
+
+    @Autowired
+    private OrderTicketProperties orderTicketProperties;
+
+    @Autowired
+    private BackgroundTaskExecutors backgroundTaskExecutors;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderResponseStreamer orderResponseStreamer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
     @BeforeEach
     void cleanDatabase() {
+        outboxEventRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        orderTicketRepository.deleteAll();
         orderRepository.deleteAll();
         inventoryRepository.deleteAll();
         inventoryRepository.save(new InventoryItem("SKU-123", "Wireless Mouse", 10));
@@ -56,6 +162,28 @@ class OrderServiceIntegrationTest {
             .isEqualTo(1);
     }
 
+    @Test
+    void createOrder_mergesDuplicateProductLinesIntoOneReservation() {
+        CreateOrderCommand command = new CreateOrderCommand(
+            "Jane Doe",
+            "jane.doe@example.com",
+            "221B Baker Street, London",
+            List.of(
+                new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 2, new BigDecimal("15.00")),
+                new CreateOrderItemCommand("SKU-999", "Mechanical Keyboard", 1, new BigDecimal("25.00")),
+                new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 3, new BigDecimal("15.00"))
+            )
+        );
+
+        Order order = orderService.createOrder(command);
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getReservedQuantity())
+            .isEqualTo(5);
+
+        orderService.cancelOrder(order.getOrderNumber());
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getReservedQuantity())
+            .isZero();
+    }
+
     @Test
     void updateOrderStatus_allowsValidTransition() {
         Order order = orderService.createOrder(sampleCommand());
@@ -90,6 +218,34 @@ class OrderServiceIntegrationTest {
             .isEqualTo(10);
     }
 
+    @Test
+    void cancelOrder_waitsForAConcurrentExpiryInsteadOfReleasingTwice() throws Exception {
+        Order order = orderService.createOrder(sampleCommand());
+        CountDownLatch claimed = new CountDownLatch(1);
+        // Mirrors ReservationExpirer: claim, release the stock, then cancel with a bulk update.
+        CompletableFuture<Void> expiry = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status -> {
+                orderRepository.claimPendingOrderIdsIn(List.of(order.getId()));
+                claimed.countDown();
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                inventoryService.releaseQuantities(Map.of("SKU-123", 1, "SKU-999", 1));
+                orderRepository.updateStatusByIds(List.of(order.getId()), OrderStatus.PENDING, OrderStatus.CANCELLED, Instant.now());
+            }));
+        assertThat(claimed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> orderService.cancelOrder(order.getOrderNumber()))
+            .isInstanceOf(InvalidOrderStateException.class);
+        expiry.get(5, TimeUnit.SECONDS);
+
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getReservedQuantity()).isZero();
+        assertThat(inventoryRepository.findByProductCode("SKU-999").orElseThrow().getReservedQuantity()).isZero();
+        assertThat(orderService.getOrder(order.getOrderNumber()).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
     @Test
     void promotePendingOrders_transitionsPendingOrdersToProcessing() {
         Order order = orderService.createOrder(sampleCommand());
@@ -106,6 +262,187 @@ class OrderServiceIntegrationTest {
             .isZero();
     }
 
+    @Test
+    void expireDue_cancelsPendingOrdersPastTheirDeadlineAndReleasesStock() {
+        Order abandoned = orderService.createOrder(sampleCommand());
+        Order promoted = orderService.createOrder(sampleCommand());
+        orderService.updateOrderStatus(promoted.getOrderNumber(), OrderStatus.PROCESSING);
+        assertThat(abandoned.getReservedUntil()).isAfter(abandoned.getCreatedAt());
+
+        assertThat(reservationExpirer.expireDue(Instant.now())).isZero();
+        int expired = reservationExpirer.expireDue(Instant.now().plus(Duration.ofDays(1)));
+
+        assertThat(expired).isEqualTo(1);
+        Order reloaded = orderService.getOrder(abandoned.getOrderNumber());
+        assertThat(reloaded.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(reloaded.getReservedUntil()).isNull();
+        assertThat(orderService.getOrder(promoted.getOrderNumber()).getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getReservedQuantity()).isZero();
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getStockOnHand()).isEqualTo(9);
+    }
+
+    @Test
+    void availability_followsCommittedReservationsAndReleases() {
+        inventoryAvailability.reload();
+        assertThat(inventoryAvailability.available(List.of("SKU-123", "SKU-404"))).isEqualTo(Map.of("SKU-123", 10));
+
+        Order order = orderService.createOrder(sampleCommand());
+        inventoryAvailability.refresh();
+        assertThat(inventoryAvailability.available(List.of("SKU-123", "SKU-999")))
+            .isEqualTo(Map.of("SKU-123", 9, "SKU-999", 4));
+
+        orderService.cancelOrder(order.getOrderNumber());
+        inventoryAvailability.refresh();
+        assertThat(inventoryAvailability.available(List.of("SKU-999", "SKU-123")))
+            .isEqualTo(Map.of("SKU-123", 10, "SKU-999", 5));
+    }
+
+    @Test
+    void intakePipeline_commitsQueuedOrdersInOneBatchAndRefusesWhenFull() throws Exception {
+        OrderIntakePipeline pipeline = new OrderIntakePipeline(
+            orderService,
+            new OrderIntakeProperties(true, 3, 10, Duration.ofMillis(50), 1),
+            orderMetrics,
+            backgroundTaskExecutors
+        );
+        DistributionSummary batchSize = meterRegistry.get("orders.intake.batch.size").summary();
+        long batchesBefore = batchSize.count();
+
+        CompletableFuture<OrderCreationResult> first = pipeline.submit(sampleCommand());
+        CompletableFuture<OrderCreationResult> oversold = pipeline.submit(commandFor(
+            new CreateOrderItemCommand("SKU-999", "Mechanical Keyboard", 99, new BigDecimal("25.00"))
+        ));
+        CompletableFuture<OrderCreationResult> second = pipeline.submit(sampleCommand());
+        assertThatThrownBy(() -> pipeline.submit(sampleCommand())).isInstanceOf(IntakeQueueFullException.class);
+
+        pipeline.start();
+        try {
+            assertThat(first.get(10, TimeUnit.SECONDS).isCreated()).isTrue();
+            assertThat(second.get(10, TimeUnit.SECONDS).isCreated()).isTrue();
+            assertThat(oversold.get(10, TimeUnit.SECONDS).rejectionReason()).contains("Insufficient inventory for product SKU-999");
+        } finally {
+            pipeline.stop();
+        }
+        assertThat(batchSize.count() - batchesBefore).isEqualTo(1);
+        assertThat(inventoryRepository.findByProductCode("SKU-999").orElseThrow().getReservedQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    void orderTickets_areCreatedOrRejectedExactlyOnce() {
+        OrderTicket accepted = orderTicketService.submit(sampleCommand());
+        OrderTicket oversold = orderTicketService.submit(commandFor(
+            new CreateOrderItemCommand("SKU-999", "Mechanical Keyboard", 99, new BigDecimal("25.00"))
+        ));
+        assertThat(accepted.getStatus()).isEqualTo(OrderTicketStatus.QUEUED);
+        assertThat(inventoryRepository.findByProductCode("SKU-999").orElseThrow().getReservedQuantity()).isZero();
+
+        assertThat(orderTicketService.process(accepted.getId())).isTrue();
+        assertThat(orderTicketService.process(accepted.getId())).isFalse();
+        assertThat(orderTicketService.process(oversold.getId())).isTrue();
+
+        OrderTicket created = orderTicketService.getTicket(accepted.getTicketId());
+        assertThat(created.getStatus()).isEqualTo(OrderTicketStatus.CREATED);
+        assertThat(orderService.getOrder(created.getOrderNumber()).getTotalAmount()).isEqualByComparingTo("40.00");
+        OrderTicket rejected = orderTicketService.getTicket(oversold.getTicketId());
+        assertThat(rejected.getStatus()).isEqualTo(OrderTicketStatus.REJECTED);
+        assertThat(rejected.getRejectionReason()).contains("SKU-999");
+        assertThat(orderRepository.count()).isEqualTo(1);
+        assertThat(inventoryRepository.findByProductCode("SKU-999").orElseThrow().getReservedQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    void orderTickets_failingForOtherReasonsAreGivenUpAfterMaxAttempts() {
+        // Passes the service's checks but does not fit the customer_name column, so every attempt fails on insert.
+        OrderTicket ticket = orderTicketService.submit(new CreateOrderCommand(
+            "J".repeat(200),
+            "jane.doe@example.com",
+            "221B Baker Street, London",
+            List.of(new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 1, new BigDecimal("15.00")))
+        ));
+        int maxAttempts = orderTicketProperties.maxAttempts();
+
+        for (int attempt = 1; attempt < maxAttempts; attempt++) {
+            assertThatThrownBy(() -> orderTicketService.process(ticket.getId())).isInstanceOf(RuntimeException.class);
+            OrderTicket retried = orderTicketService.getTicket(ticket.getTicketId());
+            assertThat(retried.getStatus()).isEqualTo(OrderTicketStatus.QUEUED);
+            assertThat(retried.getAttempts()).isEqualTo(attempt);
+        }
+        assertThatThrownBy(() -> orderTicketService.process(ticket.getId())).isInstanceOf(RuntimeException.class);
+
+        OrderTicket failed = orderTicketService.getTicket(ticket.getTicketId());
+        assertThat(failed.getStatus()).isEqualTo(OrderTicketStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(maxAttempts);
+        assertThat(failed.getRejectionReason()).isNotBlank();
+        assertThat(orderTicketService.process(ticket.getId())).isFalse();
+        assertThat(orderTicketService.findQueuedTicketIds(Instant.now().plusSeconds(60), 10)).doesNotContain(ticket.getId());
+        assertThat(orderRepository.count()).isZero();
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getReservedQuantity()).isZero();
+    }
+
+    @Test
+    void orderListingReader_pagesWithoutHydratingEntities() {
+        Order first = orderService.createOrder(sampleCommand());
+        Order second = orderService.createOrder(sampleCommand());
+        Order third = orderService.createOrder(sampleCommand());
+
+        OrderListingPage firstPage = orderListingReader.readPage(Optional.empty(), Optional.empty(), 2, OrderListingView.FULL);
+
+        assertThat(firstPage.orders()).extracting(OrderResponse::orderId)
+            .containsExactly(first.getOrderNumber(), second.getOrderNumber());
+        assertThat(firstPage.orders().get(0).items()).extracting(item -> item.productCode())
+            .containsExactly("SKU-123", "SKU-999");
+        assertThat(firstPage.orders().get(0).totalAmount()).isEqualByComparingTo("40.00");
+        assertThat(firstPage.orders().get(0).createdAt()).isNotNull();
+        assertThat(firstPage.hasNext()).isTrue();
+
+        OrderCursor cursor = OrderCursor.decode(firstPage.nextCursor().encode());
+        OrderListingPage secondPage = orderListingReader.readPage(
+            Optional.of(OrderStatus.PENDING), Optional.of(cursor), 2, OrderListingView.SUMMARY);
+
+        assertThat(secondPage.orders()).extracting(OrderResponse::orderId).containsExactly(third.getOrderNumber());
+        assertThat(secondPage.orders().get(0).items()).isNull();
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void cborListing_carriesTheSameOrdersAsJsonInFewerBytes() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            orderService.createOrder(sampleCommand());
+        }
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+        orderResponseStreamer.jsonArray(Optional.empty(), OrderListingView.FULL).writeTo(json);
+        orderResponseStreamer.cborArray(Optional.empty(), OrderListingView.FULL).writeTo(cbor);
+
+        TypeReference<List<OrderResponse>> listType = new TypeReference<>() { };
+        List<OrderResponse> fromJson = objectMapper.readValue(json.toByteArray(), listType);
+        List<OrderResponse> fromCbor = cborConverter.getObjectMapper().readValue(cbor.toByteArray(), listType);
+
+        assertThat(fromCbor).hasSize(3).isEqualTo(fromJson);
+        assertThat(cbor.size()).isLessThan(json.size());
+    }
+
+    @Test
+    void createOrder_withIdempotencyKeyReplaysTheOriginalResponseWithoutReservingAgain() {
+        IdempotencyKey key = new IdempotencyKey("retry-1", "hash-a");
+        assertThat(orderService.findRecordedResponse(key)).isEmpty();
+
+        String original = orderService.createOrder(sampleCommand(), key, this::statusResponse);
+        String orderNumber = orderRepository.findAll().get(0).getOrderNumber();
+        orderService.updateOrderStatus(orderNumber, OrderStatus.PROCESSING);
+        String replayed = orderService.createOrder(sampleCommand(), key, this::statusResponse);
+
+        assertThat(original).isEqualTo(orderNumber + ":PENDING");
+        assertThat(replayed).isEqualTo(original);
+        assertThat(orderService.findRecordedResponse(key)).contains(original);
+        assertThat(orderRepository.count()).isEqualTo(1);
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getStockOnHand()).isEqualTo(9);
+        assertThatThrownBy(() -> orderService.createOrder(sampleCommand(), new IdempotencyKey("retry-1", "hash-b"), this::statusResponse))
+            .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThatThrownBy(() -> orderService.findRecordedResponse(new IdempotencyKey("retry-1", "hash-b")))
+            .isInstanceOf(IdempotencyKeyReuseException.class);
+    }
+
     @Test
     void createOrder_throwsWhenInventoryInsufficient() {
         CreateOrderCommand command = new CreateOrderCommand(
@@ -119,6 +456,96 @@ class OrderServiceIntegrationTest {
             .isInstanceOf(InsufficientInventoryException.class);
     }
 
+    @Test
+    void createOrders_reservesCombinedDemandAndRejectsOrdersIndividually() {
+        List<OrderCreationResult> results = orderService.createOrders(List.of(
+            commandFor(new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 4, new BigDecimal("15.00"))),
+            commandFor(new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 7, new BigDecimal("15.00"))),
+            commandFor(new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 0, new BigDecimal("15.00"))),
+            commandFor(
+                new CreateOrderItemCommand("SKU-999", "Mechanical Keyboard", 5, new BigDecimal("25.00")),
+                new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 6, new BigDecimal("15.00"))
+            ),
+            commandFor(new CreateOrderItemCommand("SKU-404", "Unknown", 1, new BigDecimal("1.00")))
+        ));
+
+        assertThat(results).extracting(OrderCreationResult::isCreated).containsExactly(true, false, false, true, false);
+        assertThat(results).extracting(OrderCreationResult::invalid).containsExactly(false, false, true, false, false);
+        assertThat(results.get(1).rejectionReason()).contains("Insufficient inventory for product SKU-123");
+        assertThat(results.get(2).rejectionReason()).isEqualTo("Item quantity must be greater than zero");
+        assertThat(results.get(4).rejectionReason()).contains("SKU-404");
+        assertThat(orderRepository.count()).isEqualTo(2);
+        assertThat(results.get(0).order().getOrderNumber()).isNotEqualTo(results.get(3).order().getOrderNumber());
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getReservedQuantity()).isEqualTo(10);
+        assertThat(inventoryRepository.findByProductCode("SKU-999").orElseThrow().getReservedQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    void statusChanges_areRelayedFromTheOutboxInSequence() {
+        Order order = orderService.createOrder(sampleCommand());
+        orderService.cancelOrder(order.getOrderNumber());
+
+        orderOutboxRelay.relay();
+
+        List<OrderChangeMessage> changes = orderChangeFeed.changesAfter(0, 10);
+        assertThat(changes).extracting(OrderChangeMessage::type)
+            .containsExactly(OrderChangeType.CREATED, OrderChangeType.STATUS_CHANGED);
+        assertThat(changes).extracting(OrderChangeMessage::orderId).containsOnly(order.getOrderNumber());
+        assertThat(changes.get(1).status()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(changes.get(1).sequence()).isGreaterThan(changes.get(0).sequence());
+        assertThat(orderChangeFeed.changesAfter(changes.get(1).sequence(), 10)).isEmpty();
+    }
+
+    @Test
+    void statistics_trackCreatedAndCancelledOrdersIncrementally() {
+        orderStatistics.refresh();
+        OrderStatsSnapshot before = orderStatistics.snapshot();
+
+        Order order = orderService.createOrder(sampleCommand());
+        orderService.cancelOrder(order.getOrderNumber());
+        orderService.createOrder(sampleCommand());
+        orderStatistics.refresh();
+        OrderStatsSnapshot after = orderStatistics.snapshot();
+
+        assertThat(after.byStatus().get(OrderStatus.PENDING).orders() - before.byStatus().get(OrderStatus.PENDING).orders())
+            .isEqualTo(1);
+        assertThat(after.byStatus().get(OrderStatus.CANCELLED).orders() - before.byStatus().get(OrderStatus.CANCELLED).orders())
+            .isEqualTo(1);
+        assertThat(after.byStatus().get(OrderStatus.CANCELLED).amount().subtract(before.byStatus().get(OrderStatus.CANCELLED).amount()))
+            .isEqualByComparingTo("40.00");
+        assertThat(after.byDay().get(0).orders() - (before.byDay().isEmpty() ? 0 : before.byDay().get(0).orders()))
+            .isEqualTo(2);
+        assertThat(after.topProducts()).extracting(OrderStatsSnapshot.ProductUnits::productCode).contains("SKU-123", "SKU-999");
+    }
+
+    @Test
+    void metrics_recordCommittedOperationsAndInventoryShortfalls() {
+        long created = committedCount("create");
+        double shortfalls = meterRegistry.counter("inventory.insufficient").count();
+
+        orderService.createOrder(sampleCommand());
+        assertThatThrownBy(() -> orderService.createOrder(commandFor(
+            new CreateOrderItemCommand("SKU-999", "Mechanical Keyboard", 99, new BigDecimal("25.00"))
+        ))).isInstanceOf(InsufficientInventoryException.class);
+
+        assertThat(committedCount("create")).isEqualTo(created + 1);
+        assertThat(meterRegistry.counter("inventory.insufficient").count()).isEqualTo(shortfalls + 1);
+        assertThat(meterRegistry.get("inventory.lock.wait").tag("mode", "database").timer().count()).isPositive();
+    }
+
+    private long committedCount(String operation) {
+        Timer timer = meterRegistry.find("orders.operation").tags("operation", operation, "outcome", "committed").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private CreateOrderCommand commandFor(CreateOrderItemCommand... items) {
+        return new CreateOrderCommand("Jane Doe", "jane.doe@example.com", "221B Baker Street, London", List.of(items));
+    }
+
+    private String statusResponse(Order order) {
+        return order.getOrderNumber() + ":" + order.getStatus();
+    }
+
     private CreateOrderCommand sampleCommand() {
         return new CreateOrderCommand(
             "Jane Doe",
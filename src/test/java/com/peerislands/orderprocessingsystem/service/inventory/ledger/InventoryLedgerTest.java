@@ -0,0 +1,200 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.peerislands.orderprocessingsystem.domain.exception.InsufficientInventoryException;
+import com.peerislands.orderprocessingsystem.domain.exception.ResourceNotFoundException;
+import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
+import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class InventoryLedgerTest {
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+    private final InventoryLedger ledger = new InventoryLedger(inventoryRepository, new OrderMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void apply_isAllOrNothingAcrossProducts() {
+        stock("SKU-1", 5);
+        stock("SKU-2", 1);
+
+        assertThatThrownBy(() -> ledger.apply(quantities("SKU-1", 3, "SKU-2", 2), LedgerOperation.RESERVE))
+            .isInstanceOf(InsufficientInventoryException.class);
+
+        // SKU-1 was checked first but must not have been reserved.
+        ledger.apply(quantities("SKU-1", 5), LedgerOperation.RESERVE);
+        assertThatThrownBy(() -> ledger.apply(quantities("SKU-1", 1), LedgerOperation.RESERVE))
+            .isInstanceOf(InsufficientInventoryException.class);
+    }
+
+    @Test
+    void apply_rejectsUnknownProducts() {
+        when(inventoryRepository.findByProductCode("SKU-404")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> ledger.apply(quantities("SKU-404", 1), LedgerOperation.RESERVE))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void revertAndMarkPending_onlyCommittedDeltasAreDrained() {
+        stock("SKU-1", 10);
+
+        Map<String, LedgerDelta> committed = ledger.apply(quantities("SKU-1", 3), LedgerOperation.RESERVE);
+        Map<String, LedgerDelta> rolledBack = ledger.apply(quantities("SKU-1", 4), LedgerOperation.RESERVE);
+        ledger.markPending(committed);
+        ledger.revert(rolledBack);
+
+        assertThat(ledger.drainPending()).containsExactly(new LedgerWrite("SKU-1", 0, 3, 0));
+        assertThat(ledger.drainPending()).isEmpty();
+        ledger.apply(quantities("SKU-1", 7), LedgerOperation.RESERVE);
+        assertThatThrownBy(() -> ledger.apply(quantities("SKU-1", 1), LedgerOperation.RESERVE))
+            .isInstanceOf(InsufficientInventoryException.class);
+    }
+
+    @Test
+    void restorePending_requeuesWritesThatFailedToFlush() {
+        stock("SKU-1", 10);
+        ledger.markPending(ledger.apply(quantities("SKU-1", 2), LedgerOperation.RESERVE));
+
+        List<LedgerWrite> failed = ledger.drainPending();
+        ledger.markPending(ledger.apply(quantities("SKU-1", 1), LedgerOperation.RESERVE));
+        ledger.restorePending(failed);
+
+        assertThat(ledger.drainPending()).containsExactly(new LedgerWrite("SKU-1", 0, 3, 0));
+    }
+
+    /**
+     * Reservations, releases, commits and rollbacks race with write-behind flushes and with restocks made outside the
+     * ledger. Afterwards the simulated row must hold exactly the committed changes, and the ledger must allow exactly
+     * the stock the row says is available: no more, or rollbacks after a rebase would have let it oversell.
+     */
+    @Test
+    void concurrentChangesFlushesAndOutsideRestocks_keepLedgerAndRowInStep() throws Exception {
+        stock("SKU-1", 2_000);
+        SimulatedRow row = new SimulatedRow(2_000);
+        AtomicInteger committedReserved = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        Future<?> flusher = executor.submit(() -> {
+            int round = 0;
+            while (running.get()) {
+                row.flush(ledger);
+                if (++round % 10 == 0) {
+                    row.restock(5);
+                }
+            }
+        });
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers.add(executor.submit(() -> runWorker(new SplittableRandom(seed), committedReserved)));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        flusher.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        row.flush(ledger);
+
+        assertThat(row.reservedQuantity).isEqualTo(committedReserved.get());
+        assertThat(row.stockOnHand).isEqualTo(2_000 + row.restocked);
+        int available = row.stockOnHand - row.reservedQuantity;
+        if (available > 0) {
+            ledger.apply(quantities("SKU-1", available), LedgerOperation.RESERVE);
+        }
+        assertThatThrownBy(() -> ledger.apply(quantities("SKU-1", 1), LedgerOperation.RESERVE))
+            .isInstanceOf(InsufficientInventoryException.class);
+    }
+
+    private void runWorker(SplittableRandom random, AtomicInteger committedReserved) {
+        Deque<Integer> held = new ArrayDeque<>();
+        for (int i = 0; i < 5_000; i++) {
+            boolean release = !held.isEmpty() && random.nextInt(3) == 0;
+            int quantity = release ? held.peek() : random.nextInt(1, 4);
+            Map<String, LedgerDelta> deltas;
+            try {
+                deltas = ledger.apply(quantities("SKU-1", quantity), release ? LedgerOperation.RELEASE : LedgerOperation.RESERVE);
+            } catch (InsufficientInventoryException ex) {
+                continue;
+            }
+            if (random.nextBoolean()) {
+                ledger.revert(deltas);
+                continue;
+            }
+            ledger.markPending(deltas);
+            if (release) {
+                held.pop();
+                committedReserved.addAndGet(-quantity);
+            } else {
+                held.push(quantity);
+                committedReserved.addAndGet(quantity);
+            }
+        }
+    }
+
+    private void stock(String productCode, int stockOnHand) {
+        when(inventoryRepository.findByProductCode(productCode))
+            .thenReturn(Optional.of(new InventoryItem(productCode, "Product " + productCode, stockOnHand)));
+    }
+
+    private static SortedMap<String, Integer> quantities(String productCode, int quantity) {
+        return new TreeMap<>(Map.of(productCode, quantity));
+    }
+
+    private static SortedMap<String, Integer> quantities(String first, int firstQuantity, String second, int secondQuantity) {
+        return new TreeMap<>(Map.of(first, firstQuantity, second, secondQuantity));
+    }
+
+    /**
+     * Stands in for the {@code inventory_items} row and {@link InventoryWriteBehind}'s relative updates.
+     */
+    private static final class SimulatedRow {
+
+        private int stockOnHand;
+        private int reservedQuantity;
+        private long version;
+        private int restocked;
+
+        SimulatedRow(int stockOnHand) {
+            this.stockOnHand = stockOnHand;
+        }
+
+        synchronized void flush(InventoryLedger ledger) {
+            for (LedgerWrite write : ledger.drainPending()) {
+                stockOnHand += write.stockOnHandDelta();
+                reservedQuantity += write.reservedQuantityDelta();
+                version++;
+                ledger.reconcile(write, stockOnHand, reservedQuantity, version);
+            }
+        }
+
+        synchronized void restock(int quantity) {
+            stockOnHand += quantity;
+            restocked += quantity;
+            version++;
+        }
+    }
+}
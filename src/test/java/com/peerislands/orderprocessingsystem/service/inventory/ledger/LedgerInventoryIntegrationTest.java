@@ -0,0 +1,123 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.peerislands.orderprocessingsystem.domain.exception.InsufficientInventoryException;
+import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
+import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.service.inventory.ReservationOutcome;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the ledger against a real {@code inventory_items} table. Write-behind is only triggered by the tests, and every
+ * test uses its own products because the ledger keeps slots in memory for the life of the context.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:ledger;DB_CLOSE_DELAY=-1",
+    "inventory.reservation.mode=ledger",
+    "inventory.ledger.flush-interval-ms=3600000"
+})
+@ActiveProfiles("h2")
+class LedgerInventoryIntegrationTest {
+
+    @Autowired
+    private LedgerInventoryService ledgerInventoryService;
+
+    @Autowired
+    private InventoryWriteBehind inventoryWriteBehind;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void flush_persistsCommittedReservationsAndSkipsRolledBackOnes() {
+        String productCode = product(10);
+
+        transactionTemplate.executeWithoutResult(status -> ledgerInventoryService.reserveItems(item(productCode, 3)));
+        transactionTemplate.executeWithoutResult(status -> {
+            ledgerInventoryService.reserveItems(item(productCode, 5));
+            status.setRollbackOnly();
+        });
+        inventoryWriteBehind.flush();
+
+        InventoryItem row = inventoryRepository.findByProductCode(productCode).orElseThrow();
+        assertThat(row.getReservedQuantity()).isEqualTo(3);
+        assertThat(row.getVersion()).isEqualTo(1);
+        List<ReservationOutcome> outcomes = ledgerInventoryService.reserveEach(List.of(item(productCode, 8), item(productCode, 7)));
+        assertThat(outcomes).extracting(ReservationOutcome::isReserved).containsExactly(false, true);
+    }
+
+    @Test
+    void flush_coalescesCommitsAndReleasesIntoOneRelativeUpdate() {
+        String productCode = product(10);
+        ledgerInventoryService.reserveItems(item(productCode, 6));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ledgerInventoryService.commitQuantities(Map.of(productCode, 2));
+            ledgerInventoryService.releaseQuantities(Map.of(productCode, 1));
+        });
+        inventoryWriteBehind.flush();
+
+        InventoryItem row = inventoryRepository.findByProductCode(productCode).orElseThrow();
+        assertThat(row.getStockOnHand()).isEqualTo(8);
+        assertThat(row.getReservedQuantity()).isEqualTo(3);
+        assertThat(row.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void rollbackAfterRebaseOnOutsideChange_takesBackOnlyItsOwnReservation() {
+        String productCode = product(10);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ledgerInventoryService.reserveItems(item(productCode, 4));
+            // Flushing inside this transaction would join it, so the concurrent committer, the outside restock and
+            // the rebasing flush run on another thread while the reservation above is still in flight.
+            CompletableFuture.runAsync(() -> {
+                transactionTemplate.executeWithoutResult(other -> ledgerInventoryService.reserveItems(item(productCode, 1)));
+                jdbcTemplate.update(
+                    "update inventory_items set stock_on_hand = stock_on_hand + 5, version = version + 1 where product_code = ?",
+                    productCode
+                );
+                inventoryWriteBehind.flush();
+            }).orTimeout(30, TimeUnit.SECONDS).join();
+            status.setRollbackOnly();
+        });
+        inventoryWriteBehind.flush();
+
+        InventoryItem row = inventoryRepository.findByProductCode(productCode).orElseThrow();
+        assertThat(row.getStockOnHand()).isEqualTo(15);
+        assertThat(row.getReservedQuantity()).isEqualTo(1);
+        ledgerInventoryService.reserveItems(item(productCode, 14));
+        assertThatThrownBy(() -> ledgerInventoryService.reserveItems(item(productCode, 1)))
+            .isInstanceOf(InsufficientInventoryException.class);
+    }
+
+    private String product(int stockOnHand) {
+        String productCode = "LEDGER-" + UUID.randomUUID().toString().substring(0, 8);
+        inventoryRepository.save(new InventoryItem(productCode, "Ledger test product", stockOnHand));
+        return productCode;
+    }
+
+    private static List<CreateOrderItemCommand> item(String productCode, int quantity) {
+        return List.of(new CreateOrderItemCommand(productCode, "Ledger test product", quantity, BigDecimal.ONE));
+    }
+}
@@ -0,0 +1,66 @@
+package com.peerislands.orderprocessingsystem.service.inventory.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.peerislands.orderprocessingsystem.domain.exception.InsufficientInventoryException;
+import org.junit.jupiter.api.Test;
+
+class LedgerSlotTest {
+
+    @Test
+    void check_refusesReservationsBeyondAvailableAndReleasesBeyondReserved() {
+        LedgerSlot slot = new LedgerSlot("SKU-1", 10, 4, 0);
+
+        assertThatThrownBy(() -> slot.check(LedgerOperation.RESERVE, 7)).isInstanceOf(InsufficientInventoryException.class);
+        assertThatThrownBy(() -> slot.check(LedgerOperation.RELEASE, 5)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> slot.check(LedgerOperation.COMMIT, 5)).isInstanceOf(IllegalStateException.class);
+        slot.check(LedgerOperation.RESERVE, 6);
+    }
+
+    @Test
+    void reconcile_keepsOwnVersionedWritesWithoutRebasing() {
+        LedgerSlot slot = new LedgerSlot("SKU-1", 10, 0, 3);
+        slot.apply(LedgerDelta.of(LedgerOperation.RESERVE, 4));
+        slot.commit(LedgerDelta.of(LedgerOperation.RESERVE, 4));
+        LedgerWrite write = slot.drainPending();
+
+        assertThat(write).isEqualTo(new LedgerWrite("SKU-1", 0, 4, 3));
+        assertThat(slot.reconcile(write.baseVersion() + 1, 10, 4, 4)).isFalse();
+        assertThat(slot.getAvailableQuantity()).isEqualTo(6);
+        assertThat(slot.hasPending()).isFalse();
+    }
+
+    @Test
+    void reconcile_afterOutsideChangeKeepsInFlightDeltasSoARollbackIsExact() {
+        LedgerSlot slot = new LedgerSlot("SKU-1", 10, 0, 0);
+        LedgerDelta open = LedgerDelta.of(LedgerOperation.RESERVE, 4);
+        slot.apply(open);
+        LedgerDelta committed = LedgerDelta.of(LedgerOperation.RESERVE, 2);
+        slot.apply(committed);
+        slot.commit(committed);
+        LedgerWrite write = slot.drainPending();
+
+        // The row was restocked by 5 outside the ledger before our write landed: two version bumps instead of one.
+        assertThat(slot.reconcile(write.baseVersion() + 1, 15, 2, 2)).isTrue();
+        assertThat(slot.getAvailableQuantity()).isEqualTo(9);
+
+        slot.revert(open);
+        assertThat(slot.getAvailableQuantity()).isEqualTo(13);
+    }
+
+    @Test
+    void reconcile_afterOutsideChangeKeepsDeltasCommittedSinceTheDrain() {
+        LedgerSlot slot = new LedgerSlot("SKU-1", 10, 0, 0);
+        slot.apply(LedgerDelta.of(LedgerOperation.RESERVE, 1));
+        slot.commit(LedgerDelta.of(LedgerOperation.RESERVE, 1));
+        LedgerWrite write = slot.drainPending();
+        slot.apply(LedgerDelta.of(LedgerOperation.RESERVE, 3));
+        slot.commit(LedgerDelta.of(LedgerOperation.RESERVE, 3));
+
+        assertThat(slot.reconcile(write.baseVersion() + 1, 20, 1, 5)).isTrue();
+
+        assertThat(slot.getAvailableQuantity()).isEqualTo(16);
+        assertThat(slot.drainPending()).isEqualTo(new LedgerWrite("SKU-1", 0, 3, 5));
+    }
+}
@@ -0,0 +1,173 @@
+package com.peerislands.orderprocessingsystem.service.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
+import com.peerislands.orderprocessingsystem.repository.OrderRepository;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.service.inventory.ReservationOutcome;
+import com.peerislands.orderprocessingsystem.service.inventory.ledger.InventoryWriteBehind;
+import com.peerislands.orderprocessingsystem.service.inventory.ledger.LedgerInventoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Starts the application on a journal that still holds records which were acknowledged but never applied, as after a
+ * crash, and checks that their orders come back with their stock reserved.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:journal;DB_CLOSE_DELAY=-1",
+    "inventory.reservation.mode=ledger",
+    "inventory.ledger.flush-interval-ms=3600000",
+    "orders.number.strategy=sequence",
+    "orders.journal.enabled=true"
+})
+@ActiveProfiles("h2")
+class OrderJournalRecoveryIntegrationTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private LedgerInventoryService ledgerInventoryService;
+
+    @Autowired
+    private InventoryWriteBehind inventoryWriteBehind;
+
+    @Autowired
+    private OrderJournal orderJournal;
+
+    @Autowired
+    private OrderJournalApplier orderJournalApplier;
+
+    @DynamicPropertySource
+    static void journalLeftByACrash(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("order-journal");
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_SIZE, new SimpleMeterRegistry().timer("orders.journal.force"))) {
+            journal.append(JournaledOrderCodec.encode(order("ORD-20260101-J00001", new OrderItem("SKU-123", "Wireless Mouse", 2, new BigDecimal("15.00")))));
+            journal.append(JournaledOrderCodec.encode(order(
+                "ORD-20260101-J00002",
+                new OrderItem("SKU-123", "Wireless Mouse", 3, new BigDecimal("15.00")),
+                new OrderItem("SKU-999", "Mechanical Keyboard", 1, new BigDecimal("45.00"))
+            )));
+        }
+        registry.add("orders.journal.directory", directory::toString);
+        registry.add("orders.journal.segment-size", () -> SEGMENT_SIZE + "B");
+    }
+
+    @Test
+    void startup_appliesUnappliedRecordsWithTheirReservations() {
+        assertThat(orderJournal.appliedPosition()).isEqualTo(orderJournal.durablePosition());
+        assertThat(orderRepository.findExistingOrderNumbers(List.of("ORD-20260101-J00001", "ORD-20260101-J00002")))
+            .containsExactlyInAnyOrder("ORD-20260101-J00001", "ORD-20260101-J00002");
+        // Written by the applier together with the orders, without waiting for write-behind.
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getReservedQuantity()).isEqualTo(5);
+        assertThat(inventoryRepository.findByProductCode("SKU-999").orElseThrow().getReservedQuantity()).isEqualTo(1);
+
+        Order cancelled = orderService.cancelOrder("ORD-20260101-J00002");
+        inventoryWriteBehind.flush();
+
+        assertThat(cancelled.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(inventoryRepository.findByProductCode("SKU-123").orElseThrow().getReservedQuantity()).isEqualTo(2);
+        assertThat(inventoryRepository.findByProductCode("SKU-999").orElseThrow().getReservedQuantity()).isZero();
+        List<ReservationOutcome> outcomes = ledgerInventoryService.reserveEach(List.of(
+            List.of(new CreateOrderItemCommand("SKU-999", "Mechanical Keyboard", 51, BigDecimal.ONE)),
+            List.of(new CreateOrderItemCommand("SKU-999", "Mechanical Keyboard", 50, BigDecimal.ONE))
+        ));
+        assertThat(outcomes).extracting(ReservationOutcome::isReserved).containsExactly(false, true);
+    }
+
+    @Test
+    void journalOrder_persistsItsReservationWhenApplied() {
+        String productCode = product(10);
+
+        Order journaled = orderService.journalOrder(new CreateOrderCommand(
+            "Jane Doe",
+            "jane.doe@example.com",
+            "221B Baker Street, London",
+            List.of(new CreateOrderItemCommand(productCode, "Journal test product", 4, new BigDecimal("2.50")))
+        ));
+
+        assertThat(orderJournalApplier.awaitCaughtUp(Duration.ofSeconds(10))).isTrue();
+        assertThat(orderService.getOrder(journaled.getOrderNumber()).getTotalAmount()).isEqualByComparingTo(new BigDecimal("10.00"));
+        assertThat(inventoryRepository.findByProductCode(productCode).orElseThrow().getReservedQuantity()).isEqualTo(4);
+        assertAvailable(productCode, 6);
+    }
+
+    @Test
+    void applyJournaledOrders_insertsEachOrderNumberOnceAndDropsHoldsOfSkippedRecords() {
+        String productCode = product(10);
+        JournaledOrder journaled = new JournaledOrder(
+            "ORD-20260101-J00101",
+            "Jane Doe",
+            "jane.doe@example.com",
+            "221B Baker Street, London",
+            null,
+            List.of(new CreateOrderItemCommand(productCode, "Journal test product", 2, new BigDecimal("15.00")))
+        );
+        // Once when the order was journaled and once for a duplicate record of it.
+        ledgerInventoryService.holdJournaled(journaled.items());
+        ledgerInventoryService.holdJournaled(journaled.items());
+
+        assertThat(applyAsTheApplierDoes(List.of(journaled, journaled))).isEqualTo(1);
+        // Replaying records from before the last checkpoint holds their stock again and must not duplicate anything.
+        ledgerInventoryService.restoreJournaled(journaled.items());
+        assertThat(applyAsTheApplierDoes(List.of(journaled))).isZero();
+
+        assertThat(orderService.getOrder("ORD-20260101-J00101").getTotalAmount()).isEqualByComparingTo(new BigDecimal("30.00"));
+        assertThat(inventoryRepository.findByProductCode(productCode).orElseThrow().getReservedQuantity()).isEqualTo(2);
+        assertAvailable(productCode, 8);
+    }
+
+    private int applyAsTheApplierDoes(List<JournaledOrder> orders) {
+        return ledgerInventoryService.withoutWriteBehind(() -> orderService.applyJournaledOrders(orders));
+    }
+
+    private void assertAvailable(String productCode, int available) {
+        List<ReservationOutcome> outcomes = ledgerInventoryService.reserveEach(List.of(
+            List.of(new CreateOrderItemCommand(productCode, "Journal test product", available + 1, BigDecimal.ONE)),
+            List.of(new CreateOrderItemCommand(productCode, "Journal test product", available, BigDecimal.ONE))
+        ));
+        assertThat(outcomes).extracting(ReservationOutcome::isReserved).containsExactly(false, true);
+    }
+
+    private String product(int stockOnHand) {
+        String productCode = "JOURNAL-" + UUID.randomUUID().toString().substring(0, 8);
+        inventoryRepository.save(new InventoryItem(productCode, "Journal test product", stockOnHand));
+        return productCode;
+    }
+
+    private static Order order(String orderNumber, OrderItem... items) {
+        Order order = new Order(orderNumber, "Jane Doe", "jane.doe@example.com", "221B Baker Street, London");
+        for (OrderItem item : items) {
+            order.addItem(item);
+        }
+        return order;
+    }
+}
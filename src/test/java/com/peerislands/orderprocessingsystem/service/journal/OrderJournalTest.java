@@ -0,0 +1,118 @@
+package com.peerislands.orderprocessingsystem.service.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderItem;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OrderJournalTest {
+
+    private static final int SEGMENT_SIZE = 128;
+
+    @TempDir
+    Path directory;
+
+    private final Timer forceTimer = new SimpleMeterRegistry().timer("orders.journal.force");
+
+    @Test
+    void reopen_recoversDurableRecordsAndDiscardsATornTail() throws IOException {
+        long second;
+        try (OrderJournal journal = open()) {
+            journal.append(bytes("first"));
+            second = journal.append(bytes("second"));
+            journal.append(bytes("third"));
+        }
+        // Corrupt the last record's payload as a crash mid-write would.
+        try (FileChannel segment = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            segment.write(ByteBuffer.wrap(new byte[] {'X'}), second + 8);
+        }
+
+        try (OrderJournal journal = open()) {
+            assertThat(journal.read(0, 10)).extracting(entry -> text(entry.payload())).containsExactly("first", "second");
+            assertThat(journal.durablePosition()).isEqualTo(second);
+            journal.append(bytes("fourth"));
+            assertThat(journal.read(second, 10)).extracting(entry -> text(entry.payload())).containsExactly("fourth");
+        }
+    }
+
+    @Test
+    void checkpoint_resumesAfterAppliedRecordsAndDeletesSpentSegments() throws IOException {
+        long applied;
+        try (OrderJournal journal = open()) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(bytes("record-%02d-%s".formatted(i, "x".repeat(20))));
+            }
+            assertThat(segmentFiles()).hasSizeGreaterThan(2);
+
+            List<OrderJournal.JournalEntry> entries = journal.read(journal.appliedPosition(), 6);
+            applied = entries.get(entries.size() - 1).nextPosition();
+            journal.checkpoint(applied);
+            assertThat(segmentFiles()).allMatch(path -> segmentIndex(path) >= applied / SEGMENT_SIZE);
+        }
+
+        try (OrderJournal journal = open()) {
+            assertThat(journal.appliedPosition()).isEqualTo(applied);
+            assertThat(journal.read(journal.appliedPosition(), 10))
+                .extracting(entry -> text(entry.payload()).substring(0, 9))
+                .containsExactly("record-06", "record-07", "record-08", "record-09");
+        }
+    }
+
+    @Test
+    void codec_roundTripsAnAcceptedOrder() {
+        Order order = new Order("ORD-20260101-000001", "Jane Doe", "jane.doe@example.com", "221B Baker Street, London");
+        order.addItem(new OrderItem("SKU-123", "Wireless Mouse", 2, new BigDecimal("15.00")));
+        order.addItem(new OrderItem("SKU-999", "Mechanical Keyboard", 1, new BigDecimal("25.005")));
+        Instant reservedUntil = Instant.parse("2026-01-01T10:15:30.123456789Z");
+        order.holdReservationUntil(reservedUntil);
+
+        JournaledOrder decoded = JournaledOrderCodec.decode(JournaledOrderCodec.encode(order));
+
+        assertThat(decoded.orderNumber()).isEqualTo("ORD-20260101-000001");
+        assertThat(decoded.shippingAddress()).isEqualTo("221B Baker Street, London");
+        assertThat(decoded.reservedUntil()).isEqualTo(reservedUntil);
+        assertThat(decoded.items()).containsExactly(
+            new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 2, new BigDecimal("15.00")),
+            new CreateOrderItemCommand("SKU-999", "Mechanical Keyboard", 1, new BigDecimal("25.005"))
+        );
+    }
+
+    private OrderJournal open() throws IOException {
+        return new OrderJournal(directory, SEGMENT_SIZE, forceTimer);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".segment")).sorted().toList();
+        }
+    }
+
+    private static long segmentIndex(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.indexOf('.')));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] payload) {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,173 @@
+package com.peerislands.orderprocessingsystem.service.promotion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderPromotionProperties;
+import com.peerislands.orderprocessingsystem.domain.model.InventoryItem;
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.repository.InventoryRepository;
+import com.peerislands.orderprocessingsystem.repository.OrderIdempotencyKeyRepository;
+import com.peerislands.orderprocessingsystem.repository.OrderRepository;
+import com.peerislands.orderprocessingsystem.repository.OrderTicketRepository;
+import com.peerislands.orderprocessingsystem.repository.OutboxEventRepository;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.service.inventory.InventoryService;
+import com.peerislands.orderprocessingsystem.service.metrics.OrderMetrics;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class PendingOrderPromoterIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OrderIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private OrderTicketRepository orderTicketRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private BackgroundTaskExecutors backgroundTaskExecutors;
+
+    @Autowired
+    private OrderMetrics orderMetrics;
+
+    @BeforeEach
+    void cleanDatabase() {
+        outboxEventRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        orderTicketRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        inventoryRepository.save(new InventoryItem("SKU-123", "Wireless Mouse", 100));
+        inventoryRepository.save(new InventoryItem("SKU-999", "Mechanical Keyboard", 50));
+    }
+
+    @Test
+    void concurrentRuns_neverPromoteTheSameOrderTwice() throws Exception {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            orders.add(orderService.createOrder(command("SKU-123")));
+        }
+        PendingOrderPromoter first = promoter(inventoryService, 3, 2);
+        PendingOrderPromoter second = promoter(inventoryService, 3, 2);
+        Instant cutoff = Instant.now().plusSeconds(1);
+        CountDownLatch start = new CountDownLatch(1);
+
+        CompletableFuture<Integer> firstRun = CompletableFuture.supplyAsync(() -> {
+            await(start);
+            return first.promoteCreatedBefore(cutoff);
+        });
+        CompletableFuture<Integer> secondRun = CompletableFuture.supplyAsync(() -> {
+            await(start);
+            return second.promoteCreatedBefore(cutoff);
+        });
+        start.countDown();
+
+        int promoted = firstRun.get(30, TimeUnit.SECONDS) + secondRun.get(30, TimeUnit.SECONDS);
+        assertThat(promoted).isEqualTo(orders.size());
+        assertThat(orders).allSatisfy(order ->
+            assertThat(orderService.getOrder(order.getOrderNumber()).getStatus()).isEqualTo(OrderStatus.PROCESSING)
+        );
+        // A doubly promoted order would have committed its stock twice.
+        InventoryItem item = inventoryRepository.findByProductCode("SKU-123").orElseThrow();
+        assertThat(item.getStockOnHand()).isEqualTo(100 - orders.size());
+        assertThat(item.getReservedQuantity()).isZero();
+    }
+
+    @Test
+    void failingChunk_doesNotBlockTheRestOfItsPartition() {
+        Order before = orderService.createOrder(command("SKU-123"));
+        Order failing = orderService.createOrder(command("SKU-999"));
+        Order after = orderService.createOrder(command("SKU-123"));
+        InventoryService flaky = mock(InventoryService.class, delegatesTo(inventoryService));
+        doThrow(new IllegalStateException("inventory unavailable"))
+            .when(flaky).commitQuantities(argThat(quantities -> quantities.containsKey("SKU-999")));
+
+        int promoted = promoter(flaky, 1, 1).promoteCreatedBefore(Instant.now().plusSeconds(1));
+
+        assertThat(promoted).isEqualTo(2);
+        assertThat(orderService.getOrder(before.getOrderNumber()).getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(orderService.getOrder(after.getOrderNumber()).getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        // The failed chunk rolled back: its order is still pending with its reservation intact, for the next run.
+        assertThat(orderService.getOrder(failing.getOrderNumber()).getStatus()).isEqualTo(OrderStatus.PENDING);
+        InventoryItem keyboard = inventoryRepository.findByProductCode("SKU-999").orElseThrow();
+        assertThat(keyboard.getStockOnHand()).isEqualTo(50);
+        assertThat(keyboard.getReservedQuantity()).isEqualTo(1);
+
+        assertThat(promoter(inventoryService, 1, 1).promoteCreatedBefore(Instant.now().plusSeconds(1))).isEqualTo(1);
+        assertThat(orderService.getOrder(failing.getOrderNumber()).getStatus()).isEqualTo(OrderStatus.PROCESSING);
+    }
+
+    private PendingOrderPromoter promoter(InventoryService inventory, int chunkSize, int workers) {
+        return new PendingOrderPromoter(
+            orderRepository,
+            inventory,
+            transactionManager,
+            eventPublisher,
+            backgroundTaskExecutors,
+            new OrderPromotionProperties(chunkSize, workers, Duration.ofMinutes(5), false, 1000),
+            orderMetrics
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static CreateOrderCommand command(String productCode) {
+        return new CreateOrderCommand(
+            "Jane Doe",
+            "jane.doe@example.com",
+            "221B Baker Street, London",
+            List.of(new CreateOrderItemCommand(productCode, "Item", 1, new BigDecimal("15.00")))
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.peerislands.orderprocessingsystem.service.promotion;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.peerislands.orderprocessingsystem.config.BackgroundTaskExecutors;
+import com.peerislands.orderprocessingsystem.config.OrderPromotionProperties;
+import com.peerislands.orderprocessingsystem.service.event.OrderCreatedEvent;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class PendingOrderPromotionQueueTest {
+
+    private final PendingOrderPromoter promoter = mock(PendingOrderPromoter.class);
+    private final BackgroundTaskExecutors executors = new BackgroundTaskExecutors(new MockEnvironment());
+
+    @Test
+    void onOrderCreated_promotesOrdersOnceTheirHoldPeriodHasElapsed() {
+        PendingOrderPromotionQueue queue = queue(Duration.ZERO, 10);
+        queue.start();
+        try {
+            queue.onOrderCreated(created(1L));
+
+            verify(promoter, timeout(5_000)).promoteOrders(List.of(1L));
+        } finally {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void onOrderCreated_dropsOrdersBeyondCapacityForTheSweep() {
+        PendingOrderPromotionQueue queue = queue(Duration.ZERO, 2);
+        queue.onOrderCreated(created(1L));
+        queue.onOrderCreated(created(2L));
+        queue.onOrderCreated(created(3L));
+
+        queue.start();
+        try {
+            verify(promoter, timeout(5_000)).promoteOrders(List.of(1L, 2L));
+            verify(promoter, never()).promoteOrders(List.of(3L));
+        } finally {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void onOrderCreated_isIgnoredWhenNotEventDriven() {
+        PendingOrderPromotionQueue queue = new PendingOrderPromotionQueue(
+            promoter,
+            executors,
+            new OrderPromotionProperties(500, 1, Duration.ZERO, false, 10)
+        );
+        queue.start();
+        try {
+            queue.onOrderCreated(created(1L));
+
+            verify(promoter, after(200).never()).promoteOrders(anyCollection());
+        } finally {
+            queue.stop();
+        }
+    }
+
+    private PendingOrderPromotionQueue queue(Duration holdPeriod, int capacity) {
+        return new PendingOrderPromotionQueue(
+            promoter,
+            executors,
+            new OrderPromotionProperties(500, 1, holdPeriod, true, capacity)
+        );
+    }
+
+    private static OrderCreatedEvent created(Long orderId) {
+        return new OrderCreatedEvent(
+            orderId,
+            "ORD-" + orderId,
+            new BigDecimal("15.00"),
+            Map.of("SKU-123", 1),
+            Instant.now().minusSeconds(1),
+            null
+        );
+    }
+}
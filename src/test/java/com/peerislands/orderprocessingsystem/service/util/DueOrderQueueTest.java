@@ -0,0 +1,84 @@
+package com.peerislands.orderprocessingsystem.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DueOrderQueueTest {
+
+    @Test
+    void offer_neverExceedsCapacityUnderConcurrentOffers() throws InterruptedException {
+        int capacity = 100;
+        DueOrderQueue queue = new DueOrderQueue("test-queue", capacity, 10, orderIds -> { }, Thread::new);
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int threads = 8;
+        int perThread = 1_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    if (queue.offer(base + i, Instant.now())) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(accepted).hasValue(capacity);
+        assertThat(queue.size()).isEqualTo(capacity);
+    }
+
+    @Test
+    void worker_handsDueOrdersToTheHandlerAndFreesTheirCapacity() throws InterruptedException {
+        BlockingQueue<List<Long>> handled = new LinkedBlockingQueue<>();
+        DueOrderQueue queue = new DueOrderQueue("test-queue", 2, 10, handled::add, Thread::new);
+        Instant due = Instant.now().minusSeconds(1);
+        assertThat(queue.offer(1L, due)).isTrue();
+        assertThat(queue.offer(2L, due)).isTrue();
+        assertThat(queue.offer(3L, due)).isFalse();
+
+        queue.start();
+        try {
+            assertThat(handled.poll(5, TimeUnit.SECONDS)).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(queue.size()).isZero();
+            assertThat(queue.offer(3L, due)).isTrue();
+            assertThat(handled.poll(5, TimeUnit.SECONDS)).containsExactly(3L);
+        } finally {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void worker_holdsOrdersUntilTheyAreDue() throws InterruptedException {
+        BlockingQueue<List<Long>> handled = new LinkedBlockingQueue<>();
+        DueOrderQueue queue = new DueOrderQueue("test-queue", 10, 10, handled::add, Thread::new);
+        queue.offer(1L, Instant.now().plusSeconds(60));
+        queue.offer(2L, Instant.now());
+
+        queue.start();
+        try {
+            assertThat(handled.poll(5, TimeUnit.SECONDS)).containsExactly(2L);
+            assertThat(handled.poll(200, TimeUnit.MILLISECONDS)).isNull();
+            assertThat(queue.size()).isEqualTo(1);
+        } finally {
+            queue.stop();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.peerislands.orderprocessingsystem.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.peerislands.orderprocessingsystem.config.OrderNumberProperties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SequenceOrderNumberGeneratorTest {
+
+    @Test
+    void generate_producesUniqueNumbersInExpectedFormatAcrossThreads() throws InterruptedException {
+        SequenceOrderNumberGenerator generator = new SequenceOrderNumberGenerator(new OrderNumberProperties("sequence", 7));
+        Set<String> generated = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 2_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    generated.add(generator.generate());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // More than 1,024 numbers per second forces the logical clock to borrow ahead.
+        assertThat(generated).hasSize(threads * perThread);
+        assertThat(generated).allMatch(number -> number.matches("ORD-\\d{8}-[0-9A-Z]{6}"));
+    }
+
+    @Test
+    void constructor_rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new SequenceOrderNumberGenerator(new OrderNumberProperties("sequence", 16)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,135 @@
+package com.peerislands.orderprocessingsystem.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.IdempotencyKey;
+import com.peerislands.orderprocessingsystem.web.cache.OrderIdempotencyCache;
+import com.peerislands.orderprocessingsystem.web.dto.CreateOrderRequest;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import com.peerislands.orderprocessingsystem.web.mapper.OrderMapper;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:controller;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class OrderControllerIntegrationTest {
+
+    private static final String ORDER = """
+        {
+          "customerName": "Jane Doe",
+          "customerEmail": "jane.doe@example.com",
+          "shippingAddress": "221B Baker Street, London",
+          "items": [
+            {"productCode": "SKU-123", "productName": "Wireless Mouse", "quantity": 1, "unitPrice": 15.00}
+          ]
+        }
+        """;
+
+    private static final String INVALID_ORDER = ORDER.replace("\"quantity\": 1", "\"quantity\": 0");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private OrderIdempotencyCache orderIdempotencyCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"respond-async", "Respond-Async", "respond-async, wait=5", "return=minimal; x=1, respond-async"})
+    void createOrder_acceptsAsynchronouslyWhenRespondAsyncIsAmongThePreferences(String prefer) throws Exception {
+        mockMvc.perform(asyncDispatch(postOrder(prefer)))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Preference-Applied", "respond-async"))
+            .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void createOrder_createsSynchronouslyForOtherPreferences() throws Exception {
+        mockMvc.perform(asyncDispatch(postOrder("wait=5")))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void createOrder_rejectsAnInvalidBody() throws Exception {
+        mockMvc.perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).content(INVALID_ORDER))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validationErrors['items[0].quantity']").value("Quantity must be greater than zero"));
+    }
+
+    @Test
+    void createOrder_replaysTheOriginalResponseRecordedWithTheKey() throws Exception {
+        OrderResponse original = recordKey("db-replay", ORDER);
+        orderService.updateOrderStatus(original.orderId(), OrderStatus.PROCESSING);
+
+        mockMvc.perform(asyncDispatch(postOrderWithKey("db-replay", ORDER)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.orderId").value(original.orderId()))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void createOrder_replaysAUsedKeyBeforeValidatingTheBody() throws Exception {
+        // E.g. a retry of a request accepted before the validation rules were tightened.
+        OrderResponse original = recordKey("validated-later", INVALID_ORDER);
+
+        mockMvc.perform(asyncDispatch(postOrderWithKey("validated-later", INVALID_ORDER)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.orderId").value(original.orderId()));
+        mockMvc.perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).header("Idempotency-Key", "unused").content(INVALID_ORDER))
+            .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Records {@code key} for {@code body} the way an earlier request would have, bypassing the in-memory cache.
+     */
+    private OrderResponse recordKey(String key, String body) throws Exception {
+        byte[] request = objectMapper.writeValueAsBytes(objectMapper.readValue(body, CreateOrderRequest.class));
+        String requestHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(request));
+        String recorded = orderService.createOrder(
+            orderMapper.toCommand(objectMapper.readValue(ORDER, CreateOrderRequest.class)),
+            new IdempotencyKey(key, requestHash),
+            order -> orderIdempotencyCache.toRecorded(orderMapper.toResponse(order))
+        );
+        return objectMapper.readValue(recorded, OrderResponse.class);
+    }
+
+    private MvcResult postOrderWithKey(String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).header("Idempotency-Key", key).content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+
+    private MvcResult postOrder(String prefer) throws Exception {
+        return mockMvc.perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).header("Prefer", prefer).content(ORDER))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+}
@@ -0,0 +1,105 @@
+package com.peerislands.orderprocessingsystem.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.service.event.OrderStatusChangedEvent;
+import com.peerislands.orderprocessingsystem.web.stream.OrderStatusSubscriptions;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:status-stream;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class OrderStatusStreamIntegrationTest {
+
+    private static final Pattern STATUS = Pattern.compile("\"status\":\"(\\w+)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderStatusSubscriptions orderStatusSubscriptions;
+
+    @Test
+    void streamStatus_sendsTheStatusOfATerminalOrderAndCloses() throws Exception {
+        Order order = orderService.createOrder(sampleCommand());
+        orderService.cancelOrder(order.getOrderNumber());
+
+        MvcResult result = subscribe(order);
+
+        assertThat(statusesSent(result)).containsExactly("CANCELLED");
+    }
+
+    @Test
+    void streamStatus_sendsTheSnapshotFirstAndThenEachLaterStatusOnce() throws Exception {
+        Order order = orderService.createOrder(sampleCommand());
+        orderService.updateOrderStatus(order.getOrderNumber(), OrderStatus.PROCESSING);
+
+        MvcResult result = subscribe(order);
+        // The commit listener of the change above runs late: the snapshot already shows PROCESSING.
+        orderStatusSubscriptions.onStatusChanged(changed(order, OrderStatus.PENDING, OrderStatus.PROCESSING));
+        orderService.updateOrderStatus(order.getOrderNumber(), OrderStatus.SHIPPED);
+        // Listeners of consecutive changes may also run out of order.
+        orderStatusSubscriptions.onStatusChanged(changed(order, OrderStatus.PENDING, OrderStatus.PROCESSING));
+        orderService.updateOrderStatus(order.getOrderNumber(), OrderStatus.DELIVERED);
+
+        assertThat(statusesSent(result)).containsExactly("PROCESSING", "SHIPPED", "DELIVERED");
+    }
+
+    private MvcResult subscribe(Order order) throws Exception {
+        return mockMvc.perform(get("/api/v1/orders/{orderId}/status-stream", order.getOrderNumber()).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+
+    /**
+     * Waits for the stream to complete, which it does after a terminal status, and returns the statuses it carried.
+     */
+    private static List<String> statusesSent(MvcResult result) throws Exception {
+        result.getAsyncResult(TimeUnit.SECONDS.toMillis(10));
+        Matcher matcher = STATUS.matcher(result.getResponse().getContentAsString());
+        return matcher.results().map(match -> match.group(1)).toList();
+    }
+
+    private static OrderStatusChangedEvent changed(Order order, OrderStatus previousStatus, OrderStatus status) {
+        return new OrderStatusChangedEvent(
+            order.getId(),
+            order.getOrderNumber(),
+            previousStatus,
+            status,
+            order.getTotalAmount(),
+            Instant.now()
+        );
+    }
+
+    private static CreateOrderCommand sampleCommand() {
+        return new CreateOrderCommand(
+            "Jane Doe",
+            "jane.doe@example.com",
+            "221B Baker Street, London",
+            List.of(new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 1, new BigDecimal("15.00")))
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package com.peerislands.orderprocessingsystem.web.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.peerislands.orderprocessingsystem.domain.model.Order;
+import com.peerislands.orderprocessingsystem.domain.model.OrderStatus;
+import com.peerislands.orderprocessingsystem.service.OrderService;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderCommand;
+import com.peerislands.orderprocessingsystem.service.command.CreateOrderItemCommand;
+import com.peerislands.orderprocessingsystem.web.dto.OrderResponse;
+import com.peerislands.orderprocessingsystem.web.mapper.OrderMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:response-cache;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("h2")
+class OrderResponseCacheIntegrationTest {
+
+    @Autowired
+    private OrderResponseCache orderResponseCache;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void committedStatusChange_evictsTheCachedResponse() {
+        Order order = orderService.createOrder(sampleCommand());
+        assertThat(cachedStatus(order)).isEqualTo(OrderStatus.PENDING);
+        assertThat(cachedStatus(order)).isEqualTo(OrderStatus.PENDING);
+        assertThat(loads).hasValue(1);
+
+        orderService.updateOrderStatus(order.getOrderNumber(), OrderStatus.PROCESSING);
+
+        assertThat(cachedStatus(order)).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void rolledBackStatusChange_leavesTheCachedResponse() {
+        Order order = orderService.createOrder(sampleCommand());
+        assertThat(cachedStatus(order)).isEqualTo(OrderStatus.PENDING);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderService.updateOrderStatus(order.getOrderNumber(), OrderStatus.PROCESSING);
+            status.setRollbackOnly();
+        });
+
+        assertThat(orderService.getOrder(order.getOrderNumber()).getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(cachedStatus(order)).isEqualTo(OrderStatus.PENDING);
+        assertThat(loads).hasValue(1);
+    }
+
+    private OrderStatus cachedStatus(Order order) {
+        Function<String, OrderResponse> loader = orderNumber -> {
+            loads.incrementAndGet();
+            return orderMapper.toResponse(orderService.getOrder(orderNumber));
+        };
+        return orderResponseCache.get(order.getOrderNumber(), loader).status();
+    }
+
+    private CreateOrderCommand sampleCommand() {
+        return new CreateOrderCommand(
+            "Jane Doe",
+            "jane.doe@example.com",
+            "221B Baker Street, London",
+            List.of(new CreateOrderItemCommand("SKU-123", "Wireless Mouse", 1, new BigDecimal("15.00")))
+        );
+    }
+}